@@ -0,0 +1,105 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Closed-loop HTTP load client used by {@code loadtest.sh}.
+ *
+ * Each of the concurrent clients sends the next GET as soon as the previous response
+ * has been read, for the given duration. Prints one CSV line:
+ * {@code requests_per_sec,p50_ms,p99_ms,errors}, where errors counts non-2xx responses
+ * and failed requests. Latencies are those of successful requests.
+ *
+ * Usage: java LoadClient.java <duration-seconds> <concurrency> <url> [header: value]...
+ * Requires Java 21 (one virtual thread per client).
+ */
+public class LoadClient {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 3) {
+            System.err.println("usage: LoadClient <duration-seconds> <concurrency> <url> [header: value]...");
+            System.exit(2);
+        }
+        long durationNanos = Duration.ofSeconds(Long.parseLong(args[0])).toNanos();
+        int concurrency = Integer.parseInt(args[1]);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(args[2])).timeout(TIMEOUT).GET();
+        for (int i = 3; i < args.length; i++) {
+            String[] header = args[i].split(":\\s*", 2);
+            builder.header(header[0], header[1]);
+        }
+        HttpRequest request = builder.build();
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(TIMEOUT)
+                .build();
+
+        LongAdder errors = new LongAdder();
+        List<Future<long[]>> workers = new ArrayList<>(concurrency);
+        long started = System.nanoTime();
+        long deadline = started + durationNanos;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                workers.add(executor.submit(() -> run(client, request, deadline, errors)));
+            }
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        int total = 0;
+        for (Future<long[]> worker : workers) {
+            total += worker.get().length;
+        }
+        long[] latencies = new long[total];
+        int position = 0;
+        for (Future<long[]> worker : workers) {
+            long[] worked = worker.get();
+            System.arraycopy(worked, 0, latencies, position, worked.length);
+            position += worked.length;
+        }
+        Arrays.sort(latencies);
+        long requests = total + errors.sum();
+        System.out.printf("%.1f,%.1f,%.1f,%d%n", requests / seconds,
+                percentileMillis(latencies, 50), percentileMillis(latencies, 99), errors.sum());
+    }
+
+    private static long[] run(HttpClient client, HttpRequest request, long deadline, LongAdder errors) {
+        long[] latencies = new long[1024];
+        int count = 0;
+        while (System.nanoTime() < deadline) {
+            long sent = System.nanoTime();
+            try {
+                HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                if (response.statusCode() / 100 != 2) {
+                    errors.increment();
+                    continue;
+                }
+            } catch (Exception e) {
+                errors.increment();
+                continue;
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = System.nanoTime() - sent;
+        }
+        return Arrays.copyOf(latencies, count);
+    }
+
+    private static double percentileMillis(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+        return sorted[Math.max(rank, 0)] / 1e6;
+    }
+}
@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# Closed-loop load test of the hot read endpoints at increasing concurrency.
+#
+# Run once against the default (platform thread) configuration and once with
+# SPRING_PROFILES_ACTIVE=virtual on a -Pjava21 build, on the same host and data,
+# then compare the two result files.
+#
+# Usage: scripts/loadtest.sh <label> [base-url] [volunteer-count]
+# Profile and drive requests go to a random id in FIRST_ID .. FIRST_ID + volunteer-count - 1;
+# on a freshly migrated PostgreSQL database the first imported volunteer gets id 51.
+# Every endpoint is first warmed up for WARMUP seconds at the lowest concurrency level;
+# those requests are not recorded.
+# Requires: Java 21 (the load client, scripts/LoadClient.java, is compiled on the first run)
+set -euo pipefail
+
+LABEL=${1:?usage: loadtest.sh <label> [base-url] [volunteer-count]}
+BASE_URL=${2:-http://localhost:8083}
+COUNT=${3:-1000}
+FIRST_ID=${FIRST_ID:-1}
+DURATION=${DURATION:-30}
+WARMUP=${WARMUP:-30}
+CONCURRENCY_LEVELS=${CONCURRENCY_LEVELS:-"50 200 800 2000"}
+OUT_DIR=${OUT_DIR:-target/loadtest}
+
+CLIENT_DIR="$OUT_DIR/client"
+mkdir -p "$CLIENT_DIR"
+javac -d "$CLIENT_DIR" "$(dirname "$0")/LoadClient.java"
+RESULT="$OUT_DIR/$LABEL.csv"
+echo "endpoint,concurrency,requests_per_sec,p50_ms,p99_ms,errors" > "$RESULT"
+
+load() {
+    java -cp "$CLIENT_DIR" LoadClient "$1" "$2" "$3" "Accept-Encoding: gzip"
+}
+
+run() {
+    local name=$1 url=$2 concurrency=$3
+    echo "$name,$concurrency,$(load "$DURATION" "$concurrency" "$url")" | tee -a "$RESULT"
+}
+
+id=$(( FIRST_ID + RANDOM % COUNT ))
+read -r lowest _ <<< "$CONCURRENCY_LEVELS"
+for url in "$BASE_URL/api/v1/volunteers/$id" "$BASE_URL/api/v1/volunteers/$id/drives/completed" \
+        "$BASE_URL/api/v1/volunteers/search?skills=first-aid&match=any"; do
+    load "$WARMUP" "$lowest" "$url" > /dev/null
+done
+
+for concurrency in $CONCURRENCY_LEVELS; do
+    id=$(( FIRST_ID + RANDOM % COUNT ))
+    run profile "$BASE_URL/api/v1/volunteers/$id" "$concurrency"
+    run drives-completed "$BASE_URL/api/v1/volunteers/$id/drives/completed" "$concurrency"
+    run search "$BASE_URL/api/v1/volunteers/search?skills=first-aid&match=any" "$concurrency"
+done
+
+echo "Results written to $RESULT"
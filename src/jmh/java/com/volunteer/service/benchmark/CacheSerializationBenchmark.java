@@ -0,0 +1,108 @@
+package com.volunteer.service.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteer.service.cache.CacheInvalidationMessage;
+import com.volunteer.service.cache.CacheValueCodec;
+import com.volunteer.service.cache.TwoTierCache;
+import com.volunteer.service.cache.VolunteerCacheKeys;
+import com.volunteer.service.config.JacksonConfig;
+import com.volunteer.service.dto.VolunteerResponseDTO;
+
+/**
+ * Cache key and value serialization: the L2 value serializer used for Redis and the
+ * pub/sub invalidation message codec.
+ *
+ * {@code serializer} selects the value encoding: {@code json} is the typed JSON serializer
+ * used before {@link CacheValueCodec}, {@code smile} the codec with its default compression
+ * threshold, {@code smile-deflate} the codec compressing every value. Bytes on the wire per
+ * value are printed during setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheSerializationBenchmark {
+
+    @Param({"0", "10", "200"})
+    public int drives;
+
+    @Param({"json", "smile", "smile-deflate"})
+    public String serializer;
+
+    private RedisSerializer<Object> valueSerializer;
+    private VolunteerResponseDTO value;
+    private byte[] serializedValue;
+    private CacheInvalidationMessage message;
+    private byte[] encodedMessage;
+
+    @Setup
+    public void setUp() {
+        valueSerializer = valueSerializer(new JacksonConfig().objectMapper());
+        value = VolunteerFixtures.response(42, 10, drives);
+        serializedValue = valueSerializer.serialize(value);
+        System.out.printf("%n%s, %d drives: %d bytes per value%n", serializer, drives, serializedValue.length);
+        message = new CacheInvalidationMessage("node-1", VolunteerCacheKeys.derivedKeys(42L));
+        encodedMessage = message.encode().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] serializeValue() {
+        return valueSerializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserializeValue() {
+        return valueSerializer.deserialize(serializedValue);
+    }
+
+    @Benchmark
+    public String localKey() {
+        return TwoTierCache.localKey(42L);
+    }
+
+    @Benchmark
+    public String encodeInvalidation() {
+        return message.encode();
+    }
+
+    @Benchmark
+    public CacheInvalidationMessage decodeInvalidation() {
+        return CacheInvalidationMessage.decode(encodedMessage);
+    }
+
+    private RedisSerializer<Object> valueSerializer(ObjectMapper objectMapper) {
+        switch (serializer) {
+            case "json":
+                ObjectMapper jsonMapper = objectMapper.copy();
+                jsonMapper.activateDefaultTyping(CacheValueCodec.TYPE_VALIDATOR,
+                        ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+                return new GenericJackson2JsonRedisSerializer(jsonMapper);
+            case "smile":
+                return new CacheValueCodec(objectMapper, 1, 512);
+            case "smile-deflate":
+                return new CacheValueCodec(objectMapper, 1, 0);
+            default:
+                throw new IllegalArgumentException("Unknown serializer: " + serializer);
+        }
+    }
+}
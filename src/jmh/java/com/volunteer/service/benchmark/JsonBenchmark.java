@@ -0,0 +1,86 @@
+package com.volunteer.service.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.volunteer.service.config.JacksonConfig;
+import com.volunteer.service.dto.ApiResponse;
+import com.volunteer.service.dto.VolunteerResponseDTO;
+
+/**
+ * JSON hot paths: string list encode/decode (legacy collection columns, backfill) and
+ * {@link ApiResponse} serialization through the application's {@link JacksonConfig} mapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonBenchmark {
+
+    private static final TypeReference<List<String>> STRING_LIST = new TypeReference<>() {};
+
+    @Param({"0", "10", "200"})
+    public int drives;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader listReader;
+    private List<String> list;
+    private String listJson;
+    private ApiResponse<VolunteerResponseDTO> response;
+    private String responseJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new JacksonConfig().objectMapper();
+        listReader = objectMapper.readerFor(STRING_LIST);
+        list = VolunteerFixtures.values(drives);
+        listJson = objectMapper.writeValueAsString(list);
+        response = ApiResponse.success("Volunteer retrieved successfully", VolunteerFixtures.response(42, 10, drives));
+        responseJson = objectMapper.writeValueAsString(response);
+    }
+
+    @Benchmark
+    public String encodeList() throws Exception {
+        return objectMapper.writeValueAsString(list);
+    }
+
+    /**
+     * Decode with a new TypeReference per call, as the original service code did.
+     */
+    @Benchmark
+    public List<String> decodeListFreshTypeReference() throws Exception {
+        return objectMapper.readValue(listJson, new TypeReference<List<String>>() {});
+    }
+
+    @Benchmark
+    public List<String> decodeListCachedReader() throws Exception {
+        return listReader.readValue(listJson);
+    }
+
+    @Benchmark
+    public byte[] serializeApiResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ApiResponse<?> deserializeApiResponse() throws Exception {
+        return objectMapper.readValue(responseJson, ApiResponse.class);
+    }
+}
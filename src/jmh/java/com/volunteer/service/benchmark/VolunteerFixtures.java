@@ -0,0 +1,125 @@
+package com.volunteer.service.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import com.volunteer.service.dto.VolunteerResponseDTO;
+import com.volunteer.service.model.DriveStatus;
+import com.volunteer.service.model.Volunteer;
+import com.volunteer.service.model.VolunteerDrive;
+
+/**
+ * Deterministic, realistic test data for benchmarks.
+ * The same seed always produces the same volunteer, so results are comparable between runs.
+ */
+public final class VolunteerFixtures {
+
+    private static final String[] SKILLS = {
+            "First Aid", "Teaching", "Cooking", "Driving", "Carpentry", "Event Planning", "Fundraising",
+            "Photography", "Translation", "Web Development", "Counselling", "Gardening", "Logistics",
+            "Public Speaking", "Accounting", "Graphic Design", "Elder Care", "Child Care", "Music", "Sports Coaching"
+    };
+    private static final String[] INTERESTS = {
+            "Education", "Environment", "Health", "Animal Welfare", "Disaster Relief", "Homelessness",
+            "Arts", "Community", "Youth", "Seniors", "Food Security", "Technology"
+    };
+    private static final String[] CITIES = {
+            "Bengaluru", "Mumbai", "Delhi", "Chennai", "Hyderabad", "Pune", "Kolkata", "Jaipur"
+    };
+
+    private VolunteerFixtures() {
+    }
+
+    /**
+     * A volunteer with the given number of skills and a realistic profile.
+     */
+    public static Volunteer volunteer(long id, int skillCount) {
+        Random random = new Random(id);
+        Volunteer volunteer = new Volunteer("Volunteer " + id, "volunteer" + id + "@example.org");
+        volunteer.setId(id);
+        volunteer.setPhoneNumber("+91-98" + String.format("%08d", random.nextInt(100_000_000)));
+        volunteer.setLocation(CITIES[random.nextInt(CITIES.length)] + ", India");
+        volunteer.setLatitude(8 + random.nextDouble() * 25);
+        volunteer.setLongitude(68 + random.nextDouble() * 29);
+        volunteer.setSkills(pick(random, SKILLS, skillCount));
+        volunteer.setInterests(pick(random, INTERESTS, Math.min(3, INTERESTS.length)));
+        volunteer.setAvailability("{\"weekdays\":[\"MONDAY\",\"WEDNESDAY\",\"FRIDAY\"],\"weekends\":true}");
+        volunteer.setCreatedAt(LocalDateTime.of(2024, 1, 1, 9, 0).plusMinutes(id));
+        volunteer.setUpdatedAt(volunteer.getCreatedAt().plusDays(30));
+        return volunteer;
+    }
+
+    /**
+     * Drive history of the given length, roughly two thirds completed, oldest first.
+     */
+    public static List<VolunteerDrive> drives(long volunteerId, int count) {
+        List<VolunteerDrive> drives = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            DriveStatus status = i % 3 == 2 ? DriveStatus.APPLIED : DriveStatus.COMPLETED;
+            VolunteerDrive drive = new VolunteerDrive(volunteerId, "drive-" + (10_000 + i), status);
+            drive.setId(volunteerId * 1_000 + i);
+            drives.add(drive);
+        }
+        return drives;
+    }
+
+    /**
+     * The response DTO of {@link #volunteer(long, int)} with the given drive history.
+     */
+    public static VolunteerResponseDTO response(long id, int skillCount, int driveCount) {
+        Volunteer volunteer = volunteer(id, skillCount);
+        List<String> applied = new ArrayList<>();
+        List<String> completed = new ArrayList<>();
+        for (VolunteerDrive drive : drives(id, driveCount)) {
+            (drive.getStatus() == DriveStatus.COMPLETED ? completed : applied).add(drive.getDriveId());
+        }
+        VolunteerResponseDTO.AvailabilityDTO availability = new VolunteerResponseDTO.AvailabilityDTO();
+        availability.setWeekdays(List.of("MONDAY", "WEDNESDAY", "FRIDAY"));
+        availability.setWeekends(true);
+
+        VolunteerResponseDTO dto = new VolunteerResponseDTO();
+        dto.setId(volunteer.getId());
+        dto.setName(volunteer.getName());
+        dto.setEmail(volunteer.getEmail());
+        dto.setPhoneNumber(volunteer.getPhoneNumber());
+        dto.setLocation(volunteer.getLocation());
+        dto.setLatitude(volunteer.getLatitude());
+        dto.setLongitude(volunteer.getLongitude());
+        dto.setSkills(new ArrayList<>(volunteer.getSkills()));
+        dto.setInterests(new ArrayList<>(volunteer.getInterests()));
+        dto.setAvailability(availability);
+        dto.setDrivesApplied(applied);
+        dto.setDrivesCompleted(completed);
+        dto.setIsActive(volunteer.getIsActive());
+        dto.setCreatedAt(volunteer.getCreatedAt());
+        dto.setUpdatedAt(volunteer.getUpdatedAt());
+        return dto;
+    }
+
+    /**
+     * A list of string values of the given size, as stored in the legacy JSON columns.
+     */
+    public static List<String> values(int count) {
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add("drive-" + (10_000 + i));
+        }
+        return values;
+    }
+
+    private static Set<String> pick(Random random, String[] source, int count) {
+        Set<String> values = new LinkedHashSet<>();
+        int limit = Math.min(count, source.length);
+        while (values.size() < limit) {
+            values.add(source[random.nextInt(source.length)]);
+        }
+        for (int i = values.size(); i < count; i++) {
+            values.add(source[i % source.length] + " " + i);
+        }
+        return values;
+    }
+}
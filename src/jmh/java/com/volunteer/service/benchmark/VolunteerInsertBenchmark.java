@@ -0,0 +1,165 @@
+package com.volunteer.service.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+/**
+ * Hibernate insert rate with IDENTITY ids versus a pooled-lo sequence, with JDBC batching enabled.
+ *
+ * Uses its own benchmark tables. Runs against in-memory H2 by default; for PostgreSQL run with
+ * {@code -p database=postgres} and {@code -Dbenchmark.postgres.url/.username/.password}.
+ * Scores are rows per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class VolunteerInsertBenchmark {
+
+    private static final int ROWS = 1_000;
+    private static final int BATCH_SIZE = 50;
+
+    @Param({"identity", "pooled-lo"})
+    public String idStrategy;
+
+    @Param({"h2"})
+    public String database;
+
+    private SessionFactory sessionFactory;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        Configuration configuration = new Configuration()
+                .addAnnotatedClass(IdentityVolunteer.class)
+                .addAnnotatedClass(PooledVolunteer.class)
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(BATCH_SIZE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .setProperty(AvailableSettings.POOL_SIZE, "1");
+        if ("postgres".equals(database)) {
+            configuration
+                    .setProperty(AvailableSettings.JAKARTA_JDBC_URL, System.getProperty("benchmark.postgres.url",
+                            "jdbc:postgresql://localhost:9231/volunteer_datal_db"))
+                    .setProperty(AvailableSettings.JAKARTA_JDBC_USER, System.getProperty("benchmark.postgres.username",
+                            "volunteer_user"))
+                    .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, System.getProperty("benchmark.postgres.password",
+                            "volunteer_pass"));
+        } else {
+            configuration.setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:insert-benchmark;DB_CLOSE_DELAY=-1");
+        }
+        sessionFactory = configuration.buildSessionFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            session.createMutationQuery("delete from IdentityVolunteer").executeUpdate();
+            session.createMutationQuery("delete from PooledVolunteer").executeUpdate();
+            transaction.commit();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insert() {
+        boolean identity = "identity".equals(idStrategy);
+        try (Session session = sessionFactory.openSession()) {
+            Transaction transaction = session.beginTransaction();
+            for (int i = 0; i < ROWS; i++) {
+                long n = sequence++;
+                String name = "Volunteer " + n;
+                String email = "volunteer" + n + "@example.org";
+                session.persist(identity ? new IdentityVolunteer(name, email) : new PooledVolunteer(name, email));
+                if (i % BATCH_SIZE == BATCH_SIZE - 1) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            transaction.commit();
+        }
+    }
+
+    @Entity(name = "IdentityVolunteer")
+    @Table(name = "benchmark_identity_volunteers")
+    public static class IdentityVolunteer {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @Column(nullable = false, length = 100)
+        private String name;
+
+        @Column(nullable = false, length = 100)
+        private String email;
+
+        protected IdentityVolunteer() {
+        }
+
+        IdentityVolunteer(String name, String email) {
+            this.name = name;
+            this.email = email;
+        }
+    }
+
+    @Entity(name = "PooledVolunteer")
+    @Table(name = "benchmark_pooled_volunteers")
+    public static class PooledVolunteer {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "benchmark_pooled")
+        @SequenceGenerator(name = "benchmark_pooled", sequenceName = "benchmark_pooled_volunteers_seq", allocationSize = 50)
+        private Long id;
+
+        @Column(nullable = false, length = 100)
+        private String name;
+
+        @Column(nullable = false, length = 100)
+        private String email;
+
+        protected PooledVolunteer() {
+        }
+
+        PooledVolunteer(String name, String email) {
+            this.name = name;
+            this.email = email;
+        }
+    }
+}
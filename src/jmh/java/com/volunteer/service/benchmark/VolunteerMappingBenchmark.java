@@ -0,0 +1,105 @@
+package com.volunteer.service.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteer.service.config.JacksonConfig;
+import com.volunteer.service.dto.VolunteerResponseDTO;
+import com.volunteer.service.dto.VolunteerResponseDTO.AvailabilityDTO;
+import com.volunteer.service.mapper.JsonFieldCodec;
+import com.volunteer.service.mapper.VolunteerMapper;
+import com.volunteer.service.mapper.VolunteerMapperImpl;
+import com.volunteer.service.model.DriveStatus;
+import com.volunteer.service.model.Volunteer;
+import com.volunteer.service.model.VolunteerDrive;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Entity to response DTO mapping, including the availability JSON parse.
+ * Compares the generated {@link VolunteerMapper} with the hand-written copy it replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VolunteerMappingBenchmark {
+
+    @Param({"0", "10", "200"})
+    public int drives;
+
+    private VolunteerMapper mapper;
+    private ObjectMapper handWrittenMapper;
+    private Volunteer volunteer;
+    private List<VolunteerDrive> history;
+
+    @Setup
+    public void setUp() {
+        mapper = new VolunteerMapperImpl(new JsonFieldCodec(new JacksonConfig().objectMapper(), new SimpleMeterRegistry()));
+        handWrittenMapper = new ObjectMapper();
+        volunteer = VolunteerFixtures.volunteer(42, 10);
+        history = VolunteerFixtures.drives(42, drives);
+    }
+
+    @Benchmark
+    public VolunteerResponseDTO generatedMapper() {
+        List<String> drivesApplied = new ArrayList<>();
+        List<String> drivesCompleted = new ArrayList<>();
+        split(history, drivesApplied, drivesCompleted);
+        return mapper.toResponseDTO(volunteer, drivesApplied, drivesCompleted);
+    }
+
+    /**
+     * The previous service code: field-by-field copy and a per-call readValue on its own mapper.
+     */
+    @Benchmark
+    public VolunteerResponseDTO handWritten() {
+        List<String> drivesApplied = new ArrayList<>();
+        List<String> drivesCompleted = new ArrayList<>();
+        split(history, drivesApplied, drivesCompleted);
+
+        VolunteerResponseDTO dto = new VolunteerResponseDTO();
+        dto.setId(volunteer.getId());
+        dto.setName(volunteer.getName());
+        dto.setEmail(volunteer.getEmail());
+        dto.setPhoneNumber(volunteer.getPhoneNumber());
+        dto.setLocation(volunteer.getLocation());
+        dto.setLatitude(volunteer.getLatitude());
+        dto.setLongitude(volunteer.getLongitude());
+        dto.setSkills(new ArrayList<>(volunteer.getSkills()));
+        dto.setInterests(new ArrayList<>(volunteer.getInterests()));
+        try {
+            dto.setAvailability(handWrittenMapper.readValue(volunteer.getAvailability(), AvailabilityDTO.class));
+        } catch (Exception e) {
+            dto.setAvailability(null);
+        }
+        dto.setDrivesApplied(drivesApplied);
+        dto.setDrivesCompleted(drivesCompleted);
+        dto.setIsActive(volunteer.getIsActive());
+        dto.setCreatedAt(volunteer.getCreatedAt());
+        dto.setUpdatedAt(volunteer.getUpdatedAt());
+        return dto;
+    }
+
+    private static void split(List<VolunteerDrive> drives, List<String> applied, List<String> completed) {
+        for (VolunteerDrive drive : drives) {
+            (drive.getStatus() == DriveStatus.COMPLETED ? completed : applied).add(drive.getDriveId());
+        }
+    }
+}
@@ -3,7 +3,9 @@ package com.volunteer.service;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.core.Ordered;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main application class for the Volunteer Service.
@@ -20,8 +22,9 @@ import org.springframework.scheduling.annotation.EnableAsync;
  * @version 1.0
  */
 @SpringBootApplication
-@EnableCaching
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE) // Cache hits return before a transaction is opened
 @EnableAsync
+@EnableScheduling
 public class VolunteerServiceApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,138 @@
+package com.volunteer.service.cache;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Approximate top-N of frequently accessed ids in constant memory.
+ *
+ * A count-min sketch estimates the access count of any id; ids whose estimate
+ * reaches the current admission threshold are kept as candidates, and a min-heap
+ * over the candidates yields the top N. Recording is lock-free and costs a few
+ * atomic increments. {@link #decay()} halves all counts so the sketch follows
+ * recent popularity rather than all-time totals.
+ */
+public class AccessFrequencySketch {
+
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L
+    };
+
+    private final int topN;
+    private final int mask;
+    private final AtomicIntegerArray counters;
+    private final Map<Long, Integer> candidates = new ConcurrentHashMap<>();
+    private final ReentrantLock maintenanceLock = new ReentrantLock();
+    private volatile int threshold = 1;
+
+    /**
+     * @param topN  number of ids to report
+     * @param width counters per row, rounded up to a power of two
+     */
+    public AccessFrequencySketch(int topN, int width) {
+        this.topN = topN;
+        int size = Integer.highestOneBit(Math.max(2, width - 1)) << 1;
+        this.mask = size - 1;
+        this.counters = new AtomicIntegerArray(DEPTH * size);
+    }
+
+    public void record(long id) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            int count = counters.incrementAndGet(index(row, id));
+            estimate = Math.min(estimate, count);
+        }
+        if (estimate >= threshold) {
+            candidates.put(id, estimate);
+            if (candidates.size() > topN * 2) {
+                prune();
+            }
+        }
+    }
+
+    public int estimate(long id) {
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, id)));
+        }
+        return estimate;
+    }
+
+    /**
+     * The most frequent ids with their estimated counts, most frequent first.
+     */
+    public List<Map.Entry<Long, Integer>> top() {
+        PriorityQueue<Map.Entry<Long, Integer>> heap = topHeap();
+        List<Map.Entry<Long, Integer>> result = new ArrayList<>(heap);
+        result.sort(Map.Entry.<Long, Integer>comparingByValue().reversed());
+        return result;
+    }
+
+    /**
+     * Halve every count and re-score the candidates.
+     */
+    public void decay() {
+        maintenanceLock.lock();
+        try {
+            for (int i = 0; i < counters.length(); i++) {
+                counters.updateAndGet(i, count -> count >>> 1);
+            }
+            candidates.replaceAll((id, count) -> estimate(id));
+            candidates.values().removeIf(count -> count == 0);
+            threshold = Math.max(1, threshold >>> 1);
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    /**
+     * Drop the candidates outside the top N and raise the admission threshold to the weakest kept count.
+     */
+    private void prune() {
+        // Callers that find pruning in progress just carry on recording
+        if (!maintenanceLock.tryLock()) {
+            return;
+        }
+        try {
+            if (candidates.size() <= topN) {
+                return;
+            }
+            PriorityQueue<Map.Entry<Long, Integer>> heap = topHeap();
+            Set<Long> kept = new HashSet<>();
+            heap.forEach(entry -> kept.add(entry.getKey()));
+            candidates.keySet().retainAll(kept);
+            if (!heap.isEmpty()) {
+                threshold = heap.peek().getValue();
+            }
+        } finally {
+            maintenanceLock.unlock();
+        }
+    }
+
+    private PriorityQueue<Map.Entry<Long, Integer>> topHeap() {
+        PriorityQueue<Map.Entry<Long, Integer>> heap =
+                new PriorityQueue<>(topN + 1, Comparator.comparingInt(Map.Entry::getValue));
+        for (Map.Entry<Long, Integer> entry : candidates.entrySet()) {
+            heap.add(Map.entry(entry.getKey(), entry.getValue()));
+            if (heap.size() > topN) {
+                heap.poll();
+            }
+        }
+        return heap;
+    }
+
+    private int index(int row, long id) {
+        long hash = (id + row) * SEEDS[row];
+        hash ^= hash >>> 31;
+        return row * (mask + 1) + (int) (hash & mask);
+    }
+}
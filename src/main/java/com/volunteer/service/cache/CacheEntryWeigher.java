@@ -0,0 +1,58 @@
+package com.volunteer.service.cache;
+
+import java.util.Collection;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.volunteer.service.dto.VolunteerDrivePageDTO;
+import com.volunteer.service.dto.VolunteerResponseDTO;
+
+/**
+ * Approximates the retained heap size of L1 entries in bytes.
+ * Only needs to be proportionally right; it drives size-based eviction, not accounting.
+ */
+public class CacheEntryWeigher implements Weigher<Object, Object> {
+
+    private static final int OBJECT_OVERHEAD = 16;
+    private static final int DEFAULT_WEIGHT = 256;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long weight = estimate(key) + estimate(value);
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String s) {
+            return OBJECT_OVERHEAD + 24L + s.length();
+        }
+        if (value instanceof byte[] bytes) {
+            return OBJECT_OVERHEAD + bytes.length;
+        }
+        if (value instanceof Collection<?> collection) {
+            long total = OBJECT_OVERHEAD + 4L * collection.size();
+            for (Object element : collection) {
+                total += estimate(element);
+            }
+            return total;
+        }
+        if (value instanceof TwoTierCache.LocalEntry entry) {
+            return OBJECT_OVERHEAD + 8L + estimate(entry.value());
+        }
+        if (value instanceof EncodedResponseBody encoded) {
+            return OBJECT_OVERHEAD + estimate(encoded.getBody());
+        }
+        if (value instanceof VolunteerResponseDTO dto) {
+            return DEFAULT_WEIGHT
+                    + estimate(dto.getName()) + estimate(dto.getEmail()) + estimate(dto.getLocation())
+                    + estimate(dto.getSkills()) + estimate(dto.getInterests())
+                    + estimate(dto.getDrivesApplied()) + estimate(dto.getDrivesCompleted());
+        }
+        if (value instanceof VolunteerDrivePageDTO page) {
+            return OBJECT_OVERHEAD + estimate(page.getDrives()) + estimate(page.getNextCursor());
+        }
+        return DEFAULT_WEIGHT;
+    }
+}
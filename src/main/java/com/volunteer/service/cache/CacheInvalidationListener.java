@@ -0,0 +1,57 @@
+package com.volunteer.service.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import com.volunteer.service.datasource.ReadYourWrites;
+import com.volunteer.service.search.VolunteerIndexSync;
+
+/**
+ * Applies invalidations published by other nodes to the local L1 tier and search index.
+ */
+public class CacheInvalidationListener implements MessageListener {
+
+    private final TwoTierCacheManager cacheManager;
+    private final ReadYourWrites readYourWrites;
+    private final VolunteerIndexSync indexSync;
+    private final String nodeId;
+
+    public CacheInvalidationListener(TwoTierCacheManager cacheManager, ReadYourWrites readYourWrites,
+                                     VolunteerIndexSync indexSync, String nodeId) {
+        this.cacheManager = cacheManager;
+        this.readYourWrites = readYourWrites;
+        this.indexSync = indexSync;
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        CacheInvalidationMessage invalidation = CacheInvalidationMessage.decode(message.getBody());
+        if (nodeId.equals(invalidation.getOrigin())) {
+            return; // Already applied locally before publishing
+        }
+        readYourWrites.recordWrites(invalidation.getEntries());
+        List<Long> written = new ArrayList<>();
+        for (CacheInvalidationMessage.Entry entry : invalidation.getEntries()) {
+            if (entry.key() == null) {
+                cacheManager.clearLocal(entry.cacheName());
+            } else {
+                cacheManager.evictLocal(entry.cacheName(), entry.key());
+                if (VolunteerCacheKeys.VOLUNTEER_ETAGS.equals(entry.cacheName())) {
+                    try {
+                        written.add(Long.valueOf(entry.key()));
+                    } catch (NumberFormatException e) {
+                        // Not a volunteer id
+                    }
+                }
+            }
+        }
+        // Every volunteer write evicts its ETag; a cleared ETag cache names no volunteers to re-read
+        if (!written.isEmpty()) {
+            indexSync.refresh(written);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.volunteer.service.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * L1 invalidation notice broadcast between nodes over Redis pub/sub.
+ *
+ * Wire format is line based: the first line is the origin node id, every following
+ * line is either {@code cacheName<TAB>key} for a single eviction or a bare
+ * {@code cacheName} to clear the whole cache.
+ */
+public final class CacheInvalidationMessage {
+
+    private static final char SEPARATOR = '\t';
+
+    private final String origin;
+    private final List<Entry> entries;
+
+    public CacheInvalidationMessage(String origin, List<Entry> entries) {
+        this.origin = origin;
+        this.entries = Collections.unmodifiableList(entries);
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public List<Entry> getEntries() {
+        return entries;
+    }
+
+    public String encode() {
+        StringBuilder sb = new StringBuilder(origin);
+        for (Entry entry : entries) {
+            sb.append('\n').append(entry.cacheName());
+            if (entry.key() != null) {
+                sb.append(SEPARATOR).append(entry.key());
+            }
+        }
+        return sb.toString();
+    }
+
+    public static CacheInvalidationMessage decode(byte[] body) {
+        String[] lines = new String(body, StandardCharsets.UTF_8).split("\n");
+        List<Entry> entries = new ArrayList<>(lines.length - 1);
+        for (int i = 1; i < lines.length; i++) {
+            String line = lines[i];
+            int separator = line.indexOf(SEPARATOR);
+            if (separator < 0) {
+                entries.add(Entry.clear(line));
+            } else {
+                entries.add(Entry.evict(line.substring(0, separator), line.substring(separator + 1)));
+            }
+        }
+        return new CacheInvalidationMessage(lines[0], entries);
+    }
+
+    /**
+     * A single cache/key pair; a null key means the whole cache.
+     */
+    public record Entry(String cacheName, String key) {
+
+        public static Entry evict(String cacheName, String key) {
+            return new Entry(cacheName, key);
+        }
+
+        public static Entry clear(String cacheName) {
+            return new Entry(cacheName, null);
+        }
+    }
+}
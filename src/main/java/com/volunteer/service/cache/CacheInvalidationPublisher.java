@@ -0,0 +1,55 @@
+package com.volunteer.service.cache;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Broadcasts L1 invalidations to the other nodes of the cluster.
+ * Failures are logged and swallowed: L1 entries are short-lived, so a lost
+ * message only delays convergence until the local TTL expires.
+ */
+public class CacheInvalidationPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationPublisher.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    public void publishEviction(String cacheName, String key) {
+        publish(List.of(CacheInvalidationMessage.Entry.evict(cacheName, key)));
+    }
+
+    public void publishClear(String cacheName) {
+        publish(List.of(CacheInvalidationMessage.Entry.clear(cacheName)));
+    }
+
+    public void publish(List<CacheInvalidationMessage.Entry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        String body = new CacheInvalidationMessage(nodeId, entries).encode();
+        try {
+            redisTemplate.convertAndSend(channel, body);
+        } catch (RuntimeException ex) {
+            log.warn("Failed to publish cache invalidation on channel {}: {}", channel, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.volunteer.service.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Versioned binary codec for L2 cache values.
+ *
+ * Values are encoded as Jackson Smile (binary JSON with back-referenced property names)
+ * and Deflate-compressed when the encoding exceeds the configured threshold. Every value
+ * starts with a three-byte header:
+ * <pre>
+ *   magic (0xCA) | schema version | flags (bit 0: deflated)
+ * </pre>
+ * followed, for deflated values, by the uncompressed length as a four-byte int.
+ * Values with a different magic or schema version, including JSON written by older
+ * releases, read as cache misses, so a rolling deploy never deserializes a foreign
+ * format. Bump the schema version whenever a cached DTO changes shape.
+ */
+public class CacheValueCodec implements RedisSerializer<Object> {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheValueCodec.class);
+
+    static final byte MAGIC = (byte) 0xCA;
+    static final int FLAG_DEFLATED = 1;
+    private static final int HEADER_LENGTH = 3;
+    private static final int LENGTH_FIELD = 4;
+
+    /**
+     * Classes a type hint in a cached value may name. Redis is shared, so anything else is
+     * refused rather than instantiated.
+     */
+    public static final PolymorphicTypeValidator TYPE_VALIDATOR = BasicPolymorphicTypeValidator.builder()
+            .allowIfSubType("com.volunteer.service.dto.")
+            .allowIfSubType(EncodedResponseBody.class)
+            .allowIfSubType("java.util.")
+            .allowIfSubType("java.time.")
+            .build();
+
+    private final ObjectMapper smileMapper;
+    private final byte schemaVersion;
+    private final int compressionThreshold;
+
+    public CacheValueCodec(ObjectMapper objectMapper, int schemaVersion, int compressionThreshold) {
+        if (schemaVersion < 1 || schemaVersion > 255) {
+            throw new IllegalArgumentException("Cache schema version must be between 1 and 255");
+        }
+        // Cached values are polymorphic (DTOs, lists), so the codec needs type hints
+        this.smileMapper = objectMapper.copyWith(new SmileFactory());
+        this.smileMapper.activateDefaultTyping(TYPE_VALIDATOR,
+                ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        this.schemaVersion = (byte) schemaVersion;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        byte[] encoded;
+        try {
+            encoded = smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Could not encode cache value", e);
+        }
+        if (encoded.length < compressionThreshold) {
+            byte[] out = new byte[HEADER_LENGTH + encoded.length];
+            writeHeader(out, 0);
+            System.arraycopy(encoded, 0, out, HEADER_LENGTH, encoded.length);
+            return out;
+        }
+        return deflate(encoded);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length < HEADER_LENGTH || bytes[0] != MAGIC || bytes[1] != schemaVersion) {
+            log.debug("Ignoring cache value with foreign header");
+            return null;
+        }
+        try {
+            if ((bytes[2] & FLAG_DEFLATED) == 0) {
+                return smileMapper.readValue(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH, Object.class);
+            }
+            byte[] inflated = inflate(bytes);
+            return smileMapper.readValue(inflated, Object.class);
+        } catch (IOException | DataFormatException e) {
+            // A corrupt or incompatible entry is a miss; the caller reloads and overwrites it
+            log.warn("Discarding undecodable cache value: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] deflate(byte[] encoded) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(encoded);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(encoded.length / 2 + HEADER_LENGTH + LENGTH_FIELD);
+            byte[] header = new byte[HEADER_LENGTH + LENGTH_FIELD];
+            writeHeader(header, FLAG_DEFLATED);
+            ByteBuffer.wrap(header, HEADER_LENGTH, LENGTH_FIELD).putInt(encoded.length);
+            out.write(header, 0, header.length);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes) throws DataFormatException {
+        int offset = HEADER_LENGTH + LENGTH_FIELD;
+        if (bytes.length < offset) {
+            throw new DataFormatException("Truncated cache value");
+        }
+        int length = ByteBuffer.wrap(bytes, HEADER_LENGTH, LENGTH_FIELD).getInt();
+        if (length < 0) {
+            throw new DataFormatException("Invalid cache value length " + length);
+        }
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+            byte[] out = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int n = inflater.inflate(out, read, length - read);
+                if (n == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new DataFormatException("Truncated cache value");
+                }
+                read += n;
+            }
+            return out;
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private void writeHeader(byte[] out, int flags) {
+        out[0] = MAGIC;
+        out[1] = schemaVersion;
+        out[2] = (byte) flags;
+    }
+}
@@ -0,0 +1,38 @@
+package com.volunteer.service.cache;
+
+/**
+ * A fully encoded JSON response body as stored in the response cache.
+ * Not final so the L2 serializer records its type.
+ */
+public class EncodedResponseBody {
+
+    private byte[] body;
+    private boolean gzip;
+
+    // Constructors
+    public EncodedResponseBody() {
+        // Default constructor for serialization
+    }
+
+    public EncodedResponseBody(byte[] body, boolean gzip) {
+        this.body = body;
+        this.gzip = gzip;
+    }
+
+    // Getters and Setters
+    public byte[] getBody() {
+        return body;
+    }
+
+    public void setBody(byte[] body) {
+        this.body = body;
+    }
+
+    public boolean isGzip() {
+        return gzip;
+    }
+
+    public void setGzip(boolean gzip) {
+        this.gzip = gzip;
+    }
+}
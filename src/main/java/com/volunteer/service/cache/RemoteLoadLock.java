@@ -0,0 +1,82 @@
+package com.volunteer.service.cache;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Short-lived Redis lock that lets one node load a missing cache entry while the
+ * others wait for it to appear in L2.
+ *
+ * The lock only reduces duplicate work; it is not needed for correctness.
+ * If Redis is unavailable the caller proceeds as if it held the lock.
+ */
+public class RemoteLoadLock {
+
+    private static final Logger log = LoggerFactory.getLogger(RemoteLoadLock.class);
+
+    /**
+     * Token returned when Redis could not be asked; there is nothing to release.
+     */
+    static final String UNLOCKED = "";
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+    private final Duration wait;
+    private final Duration pollInterval;
+
+    public RemoteLoadLock(StringRedisTemplate redisTemplate, Duration ttl, Duration wait, Duration pollInterval) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+        this.wait = wait;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Try to take the lock. Returns the token to release it with, or null if another node holds it.
+     */
+    public String tryAcquire(String key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, ttl)) ? token : null;
+        } catch (RuntimeException ex) {
+            log.debug("Cache load lock unavailable for {}: {}", key, ex.getMessage());
+            return UNLOCKED;
+        }
+    }
+
+    /**
+     * Release the lock if it is still ours; a lock that expired meanwhile is left alone.
+     */
+    public void release(String key, String token) {
+        if (token == null || token.equals(UNLOCKED)) {
+            return;
+        }
+        try {
+            redisTemplate.execute(RELEASE, Collections.singletonList(key), token);
+        } catch (RuntimeException ex) {
+            log.debug("Failed to release cache load lock {}: {}", key, ex.getMessage());
+        }
+    }
+
+    /**
+     * How long a waiting node polls L2 before loading the entry itself.
+     */
+    public Duration getWait() {
+        return wait;
+    }
+
+    public Duration getPollInterval() {
+        return pollInterval;
+    }
+}
@@ -0,0 +1,156 @@
+package com.volunteer.service.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteer.service.dto.ApiResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Cache of fully encoded response bodies for hot read endpoints.
+ *
+ * A hit returns the stored bytes as they go on the wire: no {@link ApiResponse}
+ * allocation, no Jackson and no compression. Entries are keyed by endpoint, volunteer
+ * id and content encoding, and are evicted with the other derived keys of a volunteer
+ * (see {@link VolunteerCacheKeys#derivedKeys(Long)}). The response timestamp is the
+ * time the body was encoded. Encoding and compression on a miss are recorded as the
+ * {@code serialization} and {@code compression} phases of {@code volunteer.phase}.
+ */
+@Component
+public class ResponseBodyCache {
+
+    private static final String GZIP = "gzip";
+    private static final String IDENTITY = "identity";
+
+    private final Cache cache;
+    private final ObjectMapper objectMapper;
+    private final int gzipMinSize;
+    private final Timer serializationTimer;
+    private final Timer compressionTimer;
+
+    public ResponseBodyCache(CacheManager cacheManager,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${volunteer.response-cache.gzip-min-size:1KB}") DataSize gzipMinSize) {
+        this.cache = cacheManager.getCache(VolunteerCacheKeys.RESPONSES);
+        this.objectMapper = objectMapper;
+        this.gzipMinSize = (int) gzipMinSize.toBytes();
+        this.serializationTimer = phaseTimer(meterRegistry, "serialization");
+        this.compressionTimer = phaseTimer(meterRegistry, "compression");
+    }
+
+    /**
+     * Return the encoded body for a volunteer endpoint, building and caching it on a miss.
+     *
+     * @param endpoint       endpoint name, one of the values listed in {@link VolunteerCacheKeys}
+     * @param acceptEncoding the request's Accept-Encoding header, may be null
+     * @param loader         builds the response payload; exceptions propagate and nothing is cached
+     */
+    public ResponseEntity<byte[]> get(String endpoint, Long id, String acceptEncoding, Supplier<ApiResponse<?>> loader) {
+        boolean gzip = acceptsGzip(acceptEncoding);
+        String key = VolunteerCacheKeys.responseKey(endpoint, id, gzip ? GZIP : IDENTITY);
+        EncodedResponseBody encoded;
+        try {
+            encoded = cache.get(key, () -> encode(loader.get(), gzip));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime; // Keep the original exception for the exception handler
+            }
+            throw e;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (encoded.isGzip()) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        return response.body(encoded.getBody());
+    }
+
+    private EncodedResponseBody encode(ApiResponse<?> payload, boolean gzip) {
+        long started = System.nanoTime();
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode response body", e);
+        } finally {
+            serializationTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+        if (!gzip || json.length < gzipMinSize) {
+            return new EncodedResponseBody(json, false);
+        }
+        started = System.nanoTime();
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+            out.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            compressionTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+        return new EncodedResponseBody(compressed.toByteArray(), true);
+    }
+
+    private static Timer phaseTimer(MeterRegistry meterRegistry, String phase) {
+        return Timer.builder("volunteer.phase")
+                .description("Time spent in one phase of a volunteer request")
+                .tag("phase", phase)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Whether the client accepts gzip: an explicit {@code gzip} entry decides, and {@code *} only
+     * applies when gzip is not listed. An entry with {@code q=0} rejects the coding.
+     */
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Boolean wildcard = null;
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ROOT);
+            if (coding.equals(GZIP)) {
+                return isAcceptable(tokens);
+            }
+            if (coding.equals("*") && wildcard == null) {
+                wildcard = isAcceptable(tokens);
+            }
+        }
+        return Boolean.TRUE.equals(wildcard);
+    }
+
+    private static boolean isAcceptable(String[] tokens) {
+        for (int i = 1; i < tokens.length; i++) {
+            String param = tokens[i].trim().toLowerCase(Locale.ROOT);
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) > 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,423 @@
+package com.volunteer.service.cache;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Cache with a bounded in-process L1 (Caffeine) in front of a shared L2 (Redis).
+ *
+ * Reads are served from L1 when possible and promoted from L2 on an L1 miss.
+ * Evictions remove the entry from both tiers and are broadcast so other nodes drop
+ * their L1 copy. L1 keys are normalised to strings so they match the keys carried
+ * by invalidation messages.
+ *
+ * Loads through {@link #get(Object, Callable)} are single-flight: one caller per node
+ * loads a missing key while the others wait on its future, and the
+ * {@link RemoteLoadLock} lets one node per key query the database while the other
+ * nodes poll L2. L1 entries are renewed early with probability growing towards their
+ * expiry (XFetch): from L2 while the L2 copy outlives the renewed entry, otherwise from
+ * the loader on the one node holding the load lock. Hot keys are thus reloaded from the
+ * database once per L2 lifetime, before they expire instead of by a burst after.
+ *
+ * Lookup latency is recorded per tier in {@code cache.lookup}, and the time spent in
+ * the loader on a miss in {@code cache.load}.
+ */
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoTierCache.class);
+
+    private static final String LOCK_SUFFIX = ":lock";
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final RedisCache remote;
+    private final StringRedisTemplate redisTemplate;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final RemoteLoadLock loadLock;
+    private final double earlyRefreshBeta;
+    private final long localTtlNanos;
+    private final ConcurrentMap<String, CompletableFuture<LocalEntry>> loading = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter remoteEvictions;
+    private final Counter earlyRefreshes;
+    private final Timer localLookups;
+    private final Timer remoteLookups;
+    private final Timer loads;
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+                        RedisCache remote,
+                        StringRedisTemplate redisTemplate,
+                        CacheInvalidationPublisher invalidationPublisher,
+                        RemoteLoadLock loadLock,
+                        double earlyRefreshBeta,
+                        Duration localTtl,
+                        MeterRegistry meterRegistry) {
+        super(false);
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.redisTemplate = redisTemplate;
+        this.invalidationPublisher = invalidationPublisher;
+        this.loadLock = loadLock;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.localTtlNanos = localTtl.toNanos();
+        this.remoteHits = remoteCounter(meterRegistry, "cache.gets", "result", "hit");
+        this.remoteMisses = remoteCounter(meterRegistry, "cache.gets", "result", "miss");
+        this.remoteEvictions = remoteCounter(meterRegistry, "cache.evictions");
+        this.earlyRefreshes = Counter.builder("cache.early.refreshes")
+                .tag("cache", name)
+                .register(meterRegistry);
+        this.localLookups = lookupTimer(meterRegistry, "l1");
+        this.remoteLookups = lookupTimer(meterRegistry, "l2");
+        this.loads = Timer.builder("cache.load")
+                .description("Time spent in the value loader on a cache miss")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object entry = lookupLocal(localKey);
+        if (entry != null) {
+            return ((LocalEntry) entry).value();
+        }
+        Object value = lookupRemote(key);
+        if (value != null) {
+            local.put(localKey, new LocalEntry(value, 0));
+        }
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        LocalEntry entry = (LocalEntry) lookupLocal(localKey);
+        if (entry == null) {
+            entry = loadOnce(key, localKey, valueLoader);
+            if (entry == null) {
+                return null;
+            }
+        } else if (earlyRefreshBeta > 0 && shouldRefreshEarly(localKey, entry)) {
+            entry = refreshEarly(key, localKey, valueLoader, entry);
+        }
+        return (T) fromStoreValue(entry.value());
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = toStoreValue(value);
+        remote.put(key, storeValue);
+        local.put(localKey(key), new LocalEntry(storeValue, 0));
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        remote.evict(key);
+        remoteEvictions.increment();
+        local.invalidate(localKey);
+        invalidationPublisher.publishEviction(name, localKey);
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.publishClear(name);
+    }
+
+    /**
+     * Drop a single L1 entry without touching L2 or notifying other nodes.
+     */
+    public void evictLocal(String localKey) {
+        local.invalidate(localKey);
+    }
+
+    /**
+     * Drop every L1 entry without touching L2 or notifying other nodes.
+     */
+    public void clearLocal() {
+        local.invalidateAll();
+    }
+
+    /**
+     * The Redis key under which L2 stores the given (normalised) key.
+     */
+    public String remoteKey(String localKey) {
+        return remote.getCacheConfiguration().getKeyPrefixFor(name) + localKey;
+    }
+
+    public static String localKey(Object key) {
+        return key instanceof String s ? s : String.valueOf(key);
+    }
+
+    private Object lookupLocal(String localKey) {
+        long started = System.nanoTime();
+        Object entry = local.getIfPresent(localKey);
+        localLookups.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return entry;
+    }
+
+    private Object lookupRemote(Object key) {
+        long started = System.nanoTime();
+        ValueWrapper wrapper = remote.get(key);
+        remoteLookups.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        if (wrapper == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        return wrapper.get();
+    }
+
+    /**
+     * Load a key missing from L1 with one caller per node; concurrent callers wait on
+     * the same future. A future rather than a Caffeine compute keeps the load outside
+     * any monitor, so a virtual thread blocked on the database does not pin its carrier.
+     */
+    private <T> LocalEntry loadOnce(Object key, String localKey, Callable<T> valueLoader) {
+        CompletableFuture<LocalEntry> future = new CompletableFuture<>();
+        CompletableFuture<LocalEntry> inProgress = loading.putIfAbsent(localKey, future);
+        if (inProgress != null) {
+            try {
+                return inProgress.join();
+            } catch (CompletionException ex) {
+                throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+            }
+        }
+        try {
+            LocalEntry entry = (LocalEntry) local.getIfPresent(localKey);
+            if (entry == null) {
+                entry = loadThroughRemote(key, valueLoader);
+                if (entry != null) {
+                    local.put(localKey, entry);
+                }
+            }
+            future.complete(entry);
+            return entry;
+        } catch (RuntimeException ex) {
+            future.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loading.remove(localKey, future);
+        }
+    }
+
+    /**
+     * Load a key missing from L1: from L2 if present, otherwise from the loader, with at
+     * most one node per key running the loader while the lock is held.
+     */
+    private <T> LocalEntry loadThroughRemote(Object key, Callable<T> valueLoader) {
+        long started = System.nanoTime();
+        Object value = lookupRemote(key);
+        if (value != null) {
+            return new LocalEntry(value, System.nanoTime() - started);
+        }
+        if (loadLock == null) {
+            return load(key, valueLoader, started);
+        }
+
+        String lockKey = remoteKey(localKey(key)) + LOCK_SUFFIX;
+        String token = loadLock.tryAcquire(lockKey);
+        if (token == null) {
+            value = awaitRemote(key);
+            if (value != null) {
+                return new LocalEntry(value, System.nanoTime() - started);
+            }
+            // The holder is slow or failed; load without the lock rather than fail the request
+        }
+        try {
+            return load(key, valueLoader, started);
+        } finally {
+            loadLock.release(lockKey, token);
+        }
+    }
+
+    private <T> LocalEntry load(Object key, Callable<T> valueLoader, long started) {
+        T loaded;
+        long loadStarted = System.nanoTime();
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        } finally {
+            loads.record(System.nanoTime() - loadStarted, TimeUnit.NANOSECONDS);
+        }
+        if (loaded == null) {
+            return null;
+        }
+        remote.put(key, loaded);
+        return new LocalEntry(loaded, System.nanoTime() - started);
+    }
+
+    /**
+     * Poll L2 while another node loads the key. Returns null if it did not appear in time.
+     */
+    private Object awaitRemote(Object key) {
+        long deadline = System.nanoTime() + loadLock.getWait().toNanos();
+        long pollMillis = Math.max(1, loadLock.getPollInterval().toMillis());
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(pollMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper != null) {
+                remoteHits.increment();
+                return wrapper.get();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * XFetch: refresh when {@code -delta * beta * ln(rand)} reaches the remaining L1 lifetime,
+     * where delta is how long the entry took to load.
+     */
+    private boolean shouldRefreshEarly(String localKey, LocalEntry entry) {
+        if (entry.loadNanos() <= 0) {
+            return false;
+        }
+        long remaining = local.policy().expireVariably()
+                .flatMap(expiry -> expiry.getExpiresAfter(localKey))
+                .map(Duration::toNanos)
+                .orElse(Long.MAX_VALUE);
+        return xfetchGap(entry) >= remaining;
+    }
+
+    private double xfetchGap(LocalEntry entry) {
+        return -entry.loadNanos() * earlyRefreshBeta * Math.log(ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Renew an L1 entry ahead of expiry in the calling thread. While the L2 copy outlives
+     * the renewed entry it is reused; only when L2 is about to expire (again by XFetch) or
+     * gone is the loader called, and then only by the node that gets the load lock.
+     * Concurrent callers keep using the current value; a failed refresh keeps it too.
+     */
+    private <T> LocalEntry refreshEarly(Object key, String localKey, Callable<T> valueLoader, LocalEntry current) {
+        if (!refreshing.add(localKey)) {
+            return current;
+        }
+        try {
+            if (!remoteExpiresSoon(localKey, current)) {
+                Object value = lookupRemote(key);
+                if (value != null) {
+                    LocalEntry renewed = new LocalEntry(value, current.loadNanos());
+                    local.put(localKey, renewed);
+                    return renewed;
+                }
+            }
+            return reload(key, localKey, valueLoader, current);
+        } catch (Exception ex) {
+            log.debug("Early refresh of {}::{} failed: {}", name, localKey, ex.getMessage());
+            return current;
+        } finally {
+            refreshing.remove(localKey);
+        }
+    }
+
+    /**
+     * Whether the L2 copy expires before an L1 entry renewed now would, allowing for the
+     * XFetch gap. A missing copy counts as expiring; one without a TTL never does.
+     */
+    private boolean remoteExpiresSoon(String localKey, LocalEntry current) {
+        Long ttlMillis = redisTemplate.getExpire(remoteKey(localKey), TimeUnit.MILLISECONDS);
+        if (ttlMillis == null || ttlMillis == -1) {
+            return false;
+        }
+        if (ttlMillis < 0) {
+            return true;
+        }
+        return TimeUnit.MILLISECONDS.toNanos(ttlMillis) <= localTtlNanos + xfetchGap(current);
+    }
+
+    /**
+     * Reload from the loader on at most one node per key; the others keep their current
+     * value and pick up the new one from L2 on their next renewal.
+     */
+    private <T> LocalEntry reload(Object key, String localKey, Callable<T> valueLoader, LocalEntry current)
+            throws Exception {
+        String lockKey = remoteKey(localKey) + LOCK_SUFFIX;
+        String token = null;
+        if (loadLock != null) {
+            token = loadLock.tryAcquire(lockKey);
+            if (token == null) {
+                return current;
+            }
+        }
+        try {
+            long started = System.nanoTime();
+            T loaded = valueLoader.call();
+            if (loaded == null) {
+                return current;
+            }
+            LocalEntry refreshed = new LocalEntry(loaded, System.nanoTime() - started);
+            remote.put(key, loaded);
+            local.put(localKey, refreshed);
+            earlyRefreshes.increment();
+            return refreshed;
+        } finally {
+            if (loadLock != null) {
+                loadLock.release(lockKey, token);
+            }
+        }
+    }
+
+    private Timer lookupTimer(MeterRegistry meterRegistry, String tier) {
+        return Timer.builder("cache.lookup")
+                .description("Latency of a single cache tier lookup")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+
+    private Counter remoteCounter(MeterRegistry meterRegistry, String meterName, String... extraTags) {
+        return Counter.builder(meterName)
+                .tag("cache", name)
+                .tag("tier", "l2")
+                .tags(extraTags)
+                .register(meterRegistry);
+    }
+
+    /**
+     * L1 value together with how long it took to obtain, for early refresh decisions.
+     */
+    record LocalEntry(Object value, long loadNanos) {
+    }
+}
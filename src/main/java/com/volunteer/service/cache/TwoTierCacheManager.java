@@ -0,0 +1,129 @@
+package com.volunteer.service.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.volunteer.service.config.CacheProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * CacheManager that layers a per-node Caffeine cache over each Redis cache.
+ * Caches are created lazily on first use with the limits from {@link CacheProperties}.
+ * L1 lifetimes are jittered per entry so entries loaded together do not expire together.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final RedisCacheManager remoteCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final CacheProperties properties;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final RemoteLoadLock loadLock;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(RedisCacheManager remoteCacheManager,
+                               StringRedisTemplate redisTemplate,
+                               CacheProperties properties,
+                               CacheInvalidationPublisher invalidationPublisher,
+                               RemoteLoadLock loadLock,
+                               MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.invalidationPublisher = invalidationPublisher;
+        this.loadLock = loadLock;
+        this.meterRegistry = meterRegistry;
+        properties.getCaches().keySet().forEach(this::getCache);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * Evict an L1 entry on this node only. Used when applying remote invalidations.
+     */
+    public void evictLocal(String cacheName, String key) {
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+
+    /**
+     * Clear an L1 cache on this node only. Used when applying remote invalidations.
+     */
+    public void clearLocal(String cacheName) {
+        TwoTierCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.clearLocal();
+        }
+    }
+
+    /**
+     * The Redis key holding the L2 copy of a cache entry.
+     */
+    public String remoteKey(String cacheName, String key) {
+        return ((TwoTierCache) getCache(cacheName)).remoteKey(key);
+    }
+
+    private TwoTierCache createCache(String name) {
+        CacheProperties.Spec spec = properties.specFor(name);
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder()
+                .expireAfter(new JitteredExpiry(spec))
+                .maximumWeight(spec.getLocalMaxWeight().toBytes())
+                .weigher(new CacheEntryWeigher())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, "tier", "l1");
+
+        RedisCache remote = (RedisCache) remoteCacheManager.getCache(name);
+        return new TwoTierCache(name, local, remote, redisTemplate, invalidationPublisher, loadLock,
+                spec.getEarlyRefreshBeta(), spec.getLocalTtl(), meterRegistry);
+    }
+
+    /**
+     * Jittered local TTL from each write; reads do not extend the lifetime.
+     */
+    private static final class JitteredExpiry implements Expiry<Object, Object> {
+
+        private final CacheProperties.Spec spec;
+
+        private JitteredExpiry(CacheProperties.Spec spec) {
+            this.spec = spec;
+        }
+
+        @Override
+        public long expireAfterCreate(Object key, Object value, long currentTime) {
+            return spec.jittered(spec.getLocalTtl()).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+            return spec.jittered(spec.getLocalTtl()).toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
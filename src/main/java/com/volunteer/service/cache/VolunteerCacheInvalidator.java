@@ -0,0 +1,150 @@
+package com.volunteer.service.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.volunteer.service.datasource.ReadYourWrites;
+import com.volunteer.service.util.TransactionHooks;
+
+/**
+ * Evicts every cache entry derived from a volunteer after a profile mutation.
+ *
+ * L1 entries on this node are dropped as soon as the transaction commits. The Redis
+ * side is coalesced: invalidations arriving within the configured window are merged
+ * and flushed as one pipelined DEL plus one pub/sub notice, so bursts of writes to
+ * the same volunteer cost a single round trip.
+ */
+public class VolunteerCacheInvalidator {
+
+    private static final Logger log = LoggerFactory.getLogger(VolunteerCacheInvalidator.class);
+
+    private final TwoTierCacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final CacheInvalidationPublisher publisher;
+    private final ReadYourWrites readYourWrites;
+    private final long windowMillis;
+
+    private final Set<CacheInvalidationMessage.Entry> pending = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "VolunteerService-CacheInvalidation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public VolunteerCacheInvalidator(TwoTierCacheManager cacheManager,
+                                     StringRedisTemplate redisTemplate,
+                                     CacheInvalidationPublisher publisher,
+                                     ReadYourWrites readYourWrites,
+                                     Duration window) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.publisher = publisher;
+        this.readYourWrites = readYourWrites;
+        this.windowMillis = window.toMillis();
+    }
+
+    /**
+     * Invalidate all cached data of a volunteer once the current transaction commits.
+     */
+    public void invalidate(Long id) {
+        invalidate(VolunteerCacheKeys.derivedKeys(id));
+    }
+
+    /**
+     * Invalidate all cached data of several volunteers once the current transaction commits.
+     */
+    public void invalidateAll(Collection<Long> ids) {
+        List<CacheInvalidationMessage.Entry> entries = new ArrayList<>(ids.size() * 8);
+        for (Long id : ids) {
+            entries.addAll(VolunteerCacheKeys.derivedKeys(id));
+        }
+        invalidate(entries);
+    }
+
+    /**
+     * Invalidate specific cache entries once the current transaction commits.
+     */
+    public void invalidate(List<CacheInvalidationMessage.Entry> entries) {
+        TransactionHooks.afterCommit(() -> enqueue(entries));
+    }
+
+    private void enqueue(List<CacheInvalidationMessage.Entry> entries) {
+        // Before evicting, so the read that reloads an entry already goes to the primary
+        readYourWrites.recordWrites(entries);
+        evictLocal(entries);
+        pending.addAll(entries);
+        if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::flush, windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Send all pending invalidations to Redis in one pipeline.
+     */
+    void flush() {
+        flushScheduled.set(false);
+        List<CacheInvalidationMessage.Entry> batch = new ArrayList<>();
+        Iterator<CacheInvalidationMessage.Entry> iterator = pending.iterator();
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        byte[][] keys = new byte[batch.size()][];
+        for (int i = 0; i < batch.size(); i++) {
+            CacheInvalidationMessage.Entry entry = batch.get(i);
+            keys[i] = cacheManager.remoteKey(entry.cacheName(), entry.key()).getBytes(StandardCharsets.UTF_8);
+        }
+        byte[] channel = publisher.getChannel().getBytes(StandardCharsets.UTF_8);
+        byte[] message = new CacheInvalidationMessage(publisher.getNodeId(), batch).encode()
+                .getBytes(StandardCharsets.UTF_8);
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                pipeline(connection, keys, channel, message);
+                return null;
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Failed to flush {} cache invalidations: {}", batch.size(), ex.getMessage());
+        }
+
+        // A local read during the window may have re-promoted a stale L2 value
+        evictLocal(batch);
+    }
+
+    public void shutdown() {
+        scheduler.shutdown();
+        flush();
+    }
+
+    private static void pipeline(RedisConnection connection, byte[][] keys, byte[] channel, byte[] message) {
+        connection.keyCommands().del(keys);
+        connection.publish(channel, message);
+    }
+
+    private void evictLocal(List<CacheInvalidationMessage.Entry> entries) {
+        for (CacheInvalidationMessage.Entry entry : entries) {
+            cacheManager.evictLocal(entry.cacheName(), entry.key());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.volunteer.service.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import com.volunteer.service.model.DriveStatus;
+
+/**
+ * Cache names and the keys derived from a single volunteer.
+ * Must stay in sync with the {@code @Cacheable} keys used in {@code VolunteerService}.
+ */
+public final class VolunteerCacheKeys {
+
+    public static final String VOLUNTEERS = "volunteers";
+    public static final String VOLUNTEER_ETAGS = "volunteer-etags";
+    public static final String DRIVES = "drives";
+    public static final String RESPONSES = "responses";
+
+    /**
+     * Endpoints whose encoded bodies are kept in {@link #RESPONSES}.
+     */
+    public static final String DRIVES_COMPLETED = "drives-completed";
+    public static final String DRIVES_SCHEDULED = "drives-scheduled";
+
+    private static final String[] RESPONSE_ENDPOINTS = {DRIVES_COMPLETED, DRIVES_SCHEDULED};
+    private static final String[] RESPONSE_ENCODINGS = {"gzip", "identity"};
+
+    private VolunteerCacheKeys() {
+        // Utility class
+    }
+
+    /**
+     * Every cache entry that holds data of the given volunteer.
+     */
+    public static List<CacheInvalidationMessage.Entry> derivedKeys(Long id) {
+        List<CacheInvalidationMessage.Entry> entries = new ArrayList<>(8);
+        entries.add(CacheInvalidationMessage.Entry.evict(VOLUNTEERS, String.valueOf(id)));
+        entries.add(CacheInvalidationMessage.Entry.evict(VOLUNTEER_ETAGS, String.valueOf(id)));
+        entries.add(CacheInvalidationMessage.Entry.evict(DRIVES, "completed:" + id));
+        entries.add(CacheInvalidationMessage.Entry.evict(DRIVES, "scheduled:" + id));
+        for (String endpoint : RESPONSE_ENDPOINTS) {
+            for (String encoding : RESPONSE_ENCODINGS) {
+                entries.add(CacheInvalidationMessage.Entry.evict(RESPONSES, responseKey(endpoint, id, encoding)));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Cache entries announcing newly created volunteers. Nothing of theirs can be cached yet;
+     * the ETag eviction tells other nodes about the write.
+     */
+    public static List<CacheInvalidationMessage.Entry> createdKeys(Collection<Long> ids) {
+        List<CacheInvalidationMessage.Entry> entries = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            entries.add(CacheInvalidationMessage.Entry.evict(VOLUNTEER_ETAGS, String.valueOf(id)));
+        }
+        return entries;
+    }
+
+    /**
+     * Cache entries affected by a change to one of a volunteer's drive lists: the profile,
+     * its ETag and the list of that status. The other drive list stays cached.
+     */
+    public static List<CacheInvalidationMessage.Entry> driveKeys(Long id, DriveStatus status) {
+        boolean completed = status == DriveStatus.COMPLETED;
+        String endpoint = completed ? DRIVES_COMPLETED : DRIVES_SCHEDULED;
+        List<CacheInvalidationMessage.Entry> entries = new ArrayList<>(5);
+        entries.add(CacheInvalidationMessage.Entry.evict(VOLUNTEERS, String.valueOf(id)));
+        entries.add(CacheInvalidationMessage.Entry.evict(VOLUNTEER_ETAGS, String.valueOf(id)));
+        entries.add(CacheInvalidationMessage.Entry.evict(DRIVES, (completed ? "completed:" : "scheduled:") + id));
+        for (String encoding : RESPONSE_ENCODINGS) {
+            entries.add(CacheInvalidationMessage.Entry.evict(RESPONSES, responseKey(endpoint, id, encoding)));
+        }
+        return entries;
+    }
+
+    /**
+     * Key of one drive list page in {@link #DRIVES}. Includes the profile ETag, so pages
+     * are superseded rather than evicted when the history changes.
+     */
+    public static String drivePageKey(Long id, DriveStatus status, long afterId, int limit, String etag) {
+        String list = status == DriveStatus.COMPLETED ? "completed:" : "scheduled:";
+        return list + id + ":page:" + afterId + ":" + limit + ":" + etag;
+    }
+
+    /**
+     * Key of an encoded response body in {@link #RESPONSES}.
+     */
+    public static String responseKey(String endpoint, Long id, String encoding) {
+        return endpoint + ":" + id + ":" + encoding;
+    }
+}
@@ -2,44 +2,37 @@ package com.volunteer.service.config;
 
 import java.util.concurrent.Executor;
 
-import org.springframework.context.annotation.Bean;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.volunteer.service.executor.ExecutorPools;
 
 /**
  * Asynchronous processing configuration.
- * Configures thread pool for async operations like event publishing.
+ * {@code @Async} methods run on the events pool unless they name another executor;
+ * streaming responses such as the roster export write on the export pool.
+ * With {@code spring.threads.virtual.enabled} (Java 21) the pools use virtual threads instead.
  */
 @Configuration
-public class AsyncConfig implements AsyncConfigurer {
+public class AsyncConfig implements AsyncConfigurer, WebMvcConfigurer {
+
+    private final ExecutorPools executorPools;
+
+    @Autowired
+    public AsyncConfig(ExecutorPools executorPools) {
+        this.executorPools = executorPools;
+    }
 
-    /**
-     * Custom task executor for async operations.
-     * Optimized for event publishing and other background tasks.
-     */
-    @Bean(name = "taskExecutor")
     @Override
     public Executor getAsyncExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        
-        // Core number of threads
-        executor.setCorePoolSize(2);
-        
-        // Maximum number of threads
-        executor.setMaxPoolSize(10);
-        
-        // Queue capacity
-        executor.setQueueCapacity(25);
-        
-        // Thread name prefix
-        executor.setThreadNamePrefix("VolunteerService-Async-");
-        
-        // Graceful shutdown
-        executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(60);
-        
-        executor.initialize();
-        return executor;
+        return executorPools.get(ExecutorPools.EVENTS);
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(executorPools.get(ExecutorPools.EXPORT));
     }
-}
\ No newline at end of file
+}
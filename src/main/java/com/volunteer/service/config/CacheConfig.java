@@ -0,0 +1,131 @@
+package com.volunteer.service.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteer.service.cache.CacheInvalidationListener;
+import com.volunteer.service.cache.CacheInvalidationPublisher;
+import com.volunteer.service.cache.CacheValueCodec;
+import com.volunteer.service.cache.RemoteLoadLock;
+import com.volunteer.service.cache.TwoTierCacheManager;
+import com.volunteer.service.cache.VolunteerCacheInvalidator;
+import com.volunteer.service.datasource.ReadYourWrites;
+import com.volunteer.service.search.VolunteerIndexSync;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Cache configuration.
+ * Sets up the two-tier cache manager (Caffeine L1, Redis L2) and the pub/sub
+ * listener that keeps L1 consistent across nodes.
+ */
+@Configuration
+@EnableConfigurationProperties(CacheProperties.class)
+public class CacheConfig {
+
+    @Bean
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate,
+                                                                 CacheProperties properties) {
+        return new CacheInvalidationPublisher(stringRedisTemplate, properties.getInvalidationChannel());
+    }
+
+    /**
+     * Versioned binary codec for L2 cache values.
+     */
+    @Bean
+    public CacheValueCodec cacheValueCodec(ObjectMapper objectMapper, CacheProperties properties) {
+        CacheProperties.Codec codec = properties.getCodec();
+        return new CacheValueCodec(objectMapper, codec.getSchemaVersion(),
+                (int) codec.getCompressionThreshold().toBytes());
+    }
+
+    /**
+     * Primary cache manager used by {@code @Cacheable}/{@code @CacheEvict}.
+     */
+    @Bean
+    public TwoTierCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                            StringRedisTemplate stringRedisTemplate,
+                                            CacheValueCodec cacheValueCodec,
+                                            CacheProperties properties,
+                                            CacheInvalidationPublisher invalidationPublisher,
+                                            MeterRegistry meterRegistry) {
+        RedisCacheManager remoteCacheManager = redisCacheManager(connectionFactory, cacheValueCodec, properties);
+        CacheProperties.LoadLock lock = properties.getLoadLock();
+        RemoteLoadLock loadLock = lock.isEnabled()
+                ? new RemoteLoadLock(stringRedisTemplate, lock.getTtl(), lock.getWait(), lock.getPollInterval())
+                : null;
+        return new TwoTierCacheManager(remoteCacheManager, stringRedisTemplate, properties, invalidationPublisher,
+                loadLock, meterRegistry);
+    }
+
+    /**
+     * Coalescing invalidator for all cache entries derived from a volunteer.
+     */
+    @Bean
+    public VolunteerCacheInvalidator volunteerCacheInvalidator(TwoTierCacheManager cacheManager,
+                                                               StringRedisTemplate stringRedisTemplate,
+                                                               CacheInvalidationPublisher invalidationPublisher,
+                                                               ReadYourWrites readYourWrites,
+                                                               CacheProperties properties) {
+        return new VolunteerCacheInvalidator(cacheManager, stringRedisTemplate, invalidationPublisher,
+                readYourWrites, properties.getInvalidationWindow());
+    }
+
+    /**
+     * Subscribes to L1 and search index invalidations published by other nodes.
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TwoTierCacheManager cacheManager,
+                                                                            CacheInvalidationPublisher invalidationPublisher,
+                                                                            ReadYourWrites readYourWrites,
+                                                                            VolunteerIndexSync indexSync) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                new CacheInvalidationListener(cacheManager, readYourWrites, indexSync,
+                        invalidationPublisher.getNodeId()),
+                new ChannelTopic(invalidationPublisher.getChannel()));
+        return container;
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                                CacheValueCodec cacheValueCodec,
+                                                CacheProperties properties) {
+        RedisCacheConfiguration defaults = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(remoteTtl(properties.getDefaults()))
+                .prefixCacheNameWith(properties.getKeyPrefix())
+                .disableCachingNullValues()
+                .serializeValuesWith(SerializationPair.fromSerializer(cacheValueCodec));
+
+        Map<String, RedisCacheConfiguration> perCache = new HashMap<>();
+        properties.getCaches().forEach((name, spec) -> perCache.put(name, defaults.entryTtl(remoteTtl(spec))));
+
+        RedisCacheManager manager = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(defaults)
+                .withInitialCacheConfigurations(perCache)
+                .build();
+        manager.afterPropertiesSet();
+        return manager;
+    }
+
+    /**
+     * L2 TTL with per-entry jitter, so entries written together do not expire together.
+     */
+    private static RedisCacheWriter.TtlFunction remoteTtl(CacheProperties.Spec spec) {
+        return (key, value) -> spec.jittered(spec.getRemoteTtl());
+    }
+}
@@ -0,0 +1,266 @@
+package com.volunteer.service.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Cache configuration properties.
+ * Each named cache has an in-process L1 tier and a Redis L2 tier with separate limits.
+ */
+@ConfigurationProperties(prefix = "volunteer.cache")
+public class CacheProperties {
+
+    /**
+     * Prefix of every L2 key, so several services can share a Redis instance.
+     */
+    private String keyPrefix = "volunteer-service:";
+
+    /**
+     * Redis pub/sub channel used to invalidate L1 entries on other nodes.
+     */
+    private String invalidationChannel = "volunteer-service:cache-invalidation";
+
+    /**
+     * Window in which repeated invalidations are coalesced into a single Redis round trip.
+     */
+    private Duration invalidationWindow = Duration.ofMillis(20);
+
+    /**
+     * Settings applied to caches without an explicit entry in {@link #caches}.
+     */
+    private Spec defaults = new Spec();
+
+    /**
+     * Per-cache settings keyed by cache name.
+     */
+    private Map<String, Spec> caches = new LinkedHashMap<>();
+
+    /**
+     * Encoding of L2 values.
+     */
+    private Codec codec = new Codec();
+
+    /**
+     * Cross-node single-flight loading of missing entries.
+     */
+    private LoadLock loadLock = new LoadLock();
+
+    public Spec specFor(String cacheName) {
+        return caches.getOrDefault(cacheName, defaults);
+    }
+
+    // Getters and Setters
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public void setKeyPrefix(String keyPrefix) {
+        this.keyPrefix = keyPrefix;
+    }
+
+    public String getInvalidationChannel() {
+        return invalidationChannel;
+    }
+
+    public void setInvalidationChannel(String invalidationChannel) {
+        this.invalidationChannel = invalidationChannel;
+    }
+
+    public Duration getInvalidationWindow() {
+        return invalidationWindow;
+    }
+
+    public void setInvalidationWindow(Duration invalidationWindow) {
+        this.invalidationWindow = invalidationWindow;
+    }
+
+    public Spec getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Spec defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Spec> getCaches() {
+        return caches;
+    }
+
+    public void setCaches(Map<String, Spec> caches) {
+        this.caches = caches;
+    }
+
+    public Codec getCodec() {
+        return codec;
+    }
+
+    public void setCodec(Codec codec) {
+        this.codec = codec;
+    }
+
+    public LoadLock getLoadLock() {
+        return loadLock;
+    }
+
+    public void setLoadLock(LoadLock loadLock) {
+        this.loadLock = loadLock;
+    }
+
+    /**
+     * Limits for a single cache.
+     */
+    public static class Spec {
+        private Duration localTtl = Duration.ofSeconds(30);
+        private DataSize localMaxWeight = DataSize.ofMegabytes(16);
+        private Duration remoteTtl = Duration.ofMinutes(30);
+
+        /**
+         * Fraction by which each entry's TTL is randomly shortened, e.g. 0.1 for up to 10%.
+         */
+        private double ttlJitter = 0.1;
+
+        /**
+         * XFetch beta for probabilistic early refresh; 0 disables it, values above 1 refresh earlier.
+         */
+        private double earlyRefreshBeta = 0;
+
+        /**
+         * The TTL shortened by a random fraction of up to {@link #ttlJitter}.
+         */
+        public Duration jittered(Duration ttl) {
+            if (ttlJitter <= 0) {
+                return ttl;
+            }
+            double factor = 1 - ttlJitter * ThreadLocalRandom.current().nextDouble();
+            return Duration.ofMillis(Math.max(1, (long) (ttl.toMillis() * factor)));
+        }
+
+        public Duration getLocalTtl() {
+            return localTtl;
+        }
+
+        public void setLocalTtl(Duration localTtl) {
+            this.localTtl = localTtl;
+        }
+
+        public DataSize getLocalMaxWeight() {
+            return localMaxWeight;
+        }
+
+        public void setLocalMaxWeight(DataSize localMaxWeight) {
+            this.localMaxWeight = localMaxWeight;
+        }
+
+        public Duration getRemoteTtl() {
+            return remoteTtl;
+        }
+
+        public void setRemoteTtl(Duration remoteTtl) {
+            this.remoteTtl = remoteTtl;
+        }
+
+        public double getTtlJitter() {
+            return ttlJitter;
+        }
+
+        public void setTtlJitter(double ttlJitter) {
+            this.ttlJitter = ttlJitter;
+        }
+
+        public double getEarlyRefreshBeta() {
+            return earlyRefreshBeta;
+        }
+
+        public void setEarlyRefreshBeta(double earlyRefreshBeta) {
+            this.earlyRefreshBeta = earlyRefreshBeta;
+        }
+    }
+
+    /**
+     * L2 value codec settings.
+     */
+    public static class Codec {
+        /**
+         * Written into every value; entries with another version are treated as misses.
+         * Bump when a cached DTO changes shape.
+         */
+        private int schemaVersion = 1;
+
+        /**
+         * Encoded values at least this large are Deflate-compressed.
+         */
+        private DataSize compressionThreshold = DataSize.ofBytes(512);
+
+        public int getSchemaVersion() {
+            return schemaVersion;
+        }
+
+        public void setSchemaVersion(int schemaVersion) {
+            this.schemaVersion = schemaVersion;
+        }
+
+        public DataSize getCompressionThreshold() {
+            return compressionThreshold;
+        }
+
+        public void setCompressionThreshold(DataSize compressionThreshold) {
+            this.compressionThreshold = compressionThreshold;
+        }
+    }
+
+    /**
+     * Redis lock held by the node loading a missing entry.
+     */
+    public static class LoadLock {
+        private boolean enabled = true;
+
+        /**
+         * Lock expiry, bounding how long a crashed loader can block other nodes.
+         */
+        private Duration ttl = Duration.ofSeconds(5);
+
+        /**
+         * How long other nodes poll L2 for the value before loading it themselves.
+         */
+        private Duration wait = Duration.ofSeconds(2);
+
+        private Duration pollInterval = Duration.ofMillis(20);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        public void setTtl(Duration ttl) {
+            this.ttl = ttl;
+        }
+
+        public Duration getWait() {
+            return wait;
+        }
+
+        public void setWait(Duration wait) {
+            this.wait = wait;
+        }
+
+        public Duration getPollInterval() {
+            return pollInterval;
+        }
+
+        public void setPollInterval(Duration pollInterval) {
+            this.pollInterval = pollInterval;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.volunteer.service.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.volunteer.service.event.InMemoryEventSink;
+import com.volunteer.service.event.PublisherLease;
+import com.volunteer.service.event.RedisStreamEventSink;
+import com.volunteer.service.event.VolunteerEventOutbox;
+import com.volunteer.service.event.VolunteerEventPublisher;
+import com.volunteer.service.event.VolunteerEventSink;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Domain event publishing configuration.
+ * Selects the event sink ({@code volunteer.events.sink}: redis or memory) and sets up the outbox publisher.
+ */
+@Configuration
+public class EventConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "volunteer.events.sink", havingValue = "redis", matchIfMissing = true)
+    public VolunteerEventSink redisStreamEventSink(StringRedisTemplate stringRedisTemplate,
+                                                  @Value("${volunteer.events.stream:volunteer-service:events}") String stream,
+                                                  @Value("${volunteer.events.stream-max-length:100000}") long maxLength) {
+        return new RedisStreamEventSink(stringRedisTemplate, stream, maxLength);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "volunteer.events.sink", havingValue = "memory")
+    public VolunteerEventSink inMemoryEventSink(@Value("${volunteer.events.memory-capacity:10000}") int capacity) {
+        return new InMemoryEventSink(capacity);
+    }
+
+    /**
+     * Background publisher; the lease makes sure only one node drains the outbox at a time.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "volunteer.events.enabled", havingValue = "true", matchIfMissing = true)
+    public VolunteerEventPublisher volunteerEventPublisher(VolunteerEventOutbox outbox,
+                                                           VolunteerEventSink sink,
+                                                           StringRedisTemplate stringRedisTemplate,
+                                                           CacheProperties cacheProperties,
+                                                           @Value("${volunteer.events.lease-ttl:30s}") Duration leaseTtl,
+                                                           MeterRegistry meterRegistry) {
+        PublisherLease lease = new PublisherLease(stringRedisTemplate,
+                cacheProperties.getKeyPrefix() + "events:publisher", leaseTtl);
+        return new VolunteerEventPublisher(outbox, sink, lease, meterRegistry);
+    }
+}
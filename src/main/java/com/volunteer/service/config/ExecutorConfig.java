@@ -0,0 +1,45 @@
+package com.volunteer.service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+import com.volunteer.service.executor.ExecutorPools;
+import com.volunteer.service.executor.ExecutorsEndpoint;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Named executor pools and the actuator endpoint that tunes them.
+ */
+@Configuration
+@EnableConfigurationProperties(ExecutorProperties.class)
+public class ExecutorConfig {
+
+    /**
+     * Bean name for {@code @Async} methods that warm the caches.
+     */
+    public static final String CACHE_WARMUP_EXECUTOR = "cacheWarmupExecutor";
+
+    @Bean
+    public ExecutorPools executorPools(ExecutorProperties properties,
+                                       @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                       MeterRegistry meterRegistry) {
+        return new ExecutorPools(properties, virtualThreads, meterRegistry);
+    }
+
+    /**
+     * Shut down by {@link ExecutorPools}, not by the container.
+     */
+    @Bean(name = CACHE_WARMUP_EXECUTOR, destroyMethod = "")
+    public AsyncTaskExecutor cacheWarmupExecutor(ExecutorPools pools) {
+        return pools.get(ExecutorPools.CACHE_WARMUP);
+    }
+
+    @Bean
+    public ExecutorsEndpoint executorsEndpoint(ExecutorPools pools) {
+        return new ExecutorsEndpoint(pools);
+    }
+}
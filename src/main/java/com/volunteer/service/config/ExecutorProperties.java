@@ -0,0 +1,114 @@
+package com.volunteer.service.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Executor configuration properties.
+ * Each workload runs on its own named pool so a burst in one cannot starve the others.
+ */
+@ConfigurationProperties(prefix = "volunteer.executors")
+public class ExecutorProperties {
+
+    /**
+     * Pools keyed by workload name.
+     */
+    private Map<String, Pool> pools = new LinkedHashMap<>();
+
+    public Pool poolFor(String name) {
+        return pools.getOrDefault(name, new Pool());
+    }
+
+    // Getters and Setters
+    public Map<String, Pool> getPools() {
+        return pools;
+    }
+
+    public void setPools(Map<String, Pool> pools) {
+        this.pools = pools;
+    }
+
+    /**
+     * What a saturated pool does with a new task.
+     */
+    public enum Backpressure {
+        /**
+         * Run the task in the submitting thread, which slows the submitter down.
+         */
+        CALLER_RUNS,
+        /**
+         * Wait up to the block timeout for queue space, then reject.
+         */
+        BLOCK
+    }
+
+    /**
+     * Limits of a single pool. Core and max size can be changed at runtime through the
+     * {@code executors} actuator endpoint; the queue capacity is fixed at startup.
+     * With virtual threads the max size is the concurrency limit.
+     */
+    public static class Pool {
+        private int coreSize = 2;
+        private int maxSize = 4;
+        private int queueCapacity = 50;
+        private Duration keepAlive = Duration.ofSeconds(60);
+        private Backpressure backpressure = Backpressure.CALLER_RUNS;
+
+        /**
+         * How long a submitter waits for queue space with {@link Backpressure#BLOCK}.
+         */
+        private Duration blockTimeout = Duration.ofSeconds(5);
+
+        // Getters and Setters
+        public int getCoreSize() {
+            return coreSize;
+        }
+
+        public void setCoreSize(int coreSize) {
+            this.coreSize = coreSize;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Duration getKeepAlive() {
+            return keepAlive;
+        }
+
+        public void setKeepAlive(Duration keepAlive) {
+            this.keepAlive = keepAlive;
+        }
+
+        public Backpressure getBackpressure() {
+            return backpressure;
+        }
+
+        public void setBackpressure(Backpressure backpressure) {
+            this.backpressure = backpressure;
+        }
+
+        public Duration getBlockTimeout() {
+            return blockTimeout;
+        }
+
+        public void setBlockTimeout(Duration blockTimeout) {
+            this.blockTimeout = blockTimeout;
+        }
+    }
+}
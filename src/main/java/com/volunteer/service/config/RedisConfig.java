@@ -1,15 +1,20 @@
 package com.volunteer.service.config;
 
+import java.time.Duration;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.volunteer.service.cache.CacheValueCodec;
+
 /**
  * Redis configuration for caching and data storage.
  * Configures Redis connection and templates.
@@ -26,8 +31,16 @@ public class RedisConfig {
     @Value("${spring.redis.password:}")
     private String redisPassword;
 
+    @Value("${volunteer.redis.pool.max-active:16}")
+    private int poolMaxActive;
+
+    @Value("${volunteer.redis.pool.max-wait:2s}")
+    private Duration poolMaxWait;
+
     /**
      * Redis connection factory configuration using Lettuce.
+     * Regular commands share one multiplexed connection; pipelines and other commands that
+     * need a dedicated connection borrow one from a bounded pool instead of opening a new one.
      */
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
@@ -37,14 +50,22 @@ public class RedisConfig {
         if (!redisPassword.isEmpty()) {
             config.setPassword(redisPassword);
         }
-        return new LettuceConnectionFactory(config);
+        GenericObjectPoolConfig<?> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(poolMaxActive);
+        poolConfig.setMaxIdle(poolMaxActive);
+        poolConfig.setMaxWait(poolMaxWait);
+        LettucePoolingClientConfiguration clientConfig = LettucePoolingClientConfiguration.builder()
+                .poolConfig(poolConfig)
+                .build();
+        return new LettuceConnectionFactory(config, clientConfig);
     }
 
     /**
      * Redis template for general purpose Redis operations.
      */
     @Bean
-    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
+    public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory,
+                                                       CacheValueCodec cacheValueCodec) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         
@@ -52,9 +73,9 @@ public class RedisConfig {
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
         
-        // Use JSON serializer for values
-        template.setValueSerializer(new GenericJackson2JsonRedisSerializer());
-        template.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        // Same versioned binary encoding as the L2 cache values
+        template.setValueSerializer(cacheValueCodec);
+        template.setHashValueSerializer(cacheValueCodec);
         
         template.afterPropertiesSet();
         return template;
@@ -0,0 +1,147 @@
+package com.volunteer.service.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Read replica configuration properties.
+ * Read-only transactions go to a replica; everything else stays on the primary datasource.
+ */
+@ConfigurationProperties(prefix = "volunteer.replicas")
+public class ReplicaProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * How a replica is picked for each read-only transaction.
+     */
+    private Selection selection = Selection.ROUND_ROBIN;
+
+    /**
+     * Replicas further behind the primary than this are skipped until they catch up.
+     */
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    /**
+     * Query returning the replication lag in seconds. The default works on PostgreSQL standbys
+     * and returns 0 on a primary; use {@code SELECT 0} for databases without replication views.
+     */
+    private String lagQuery = "SELECT CASE WHEN NOT pg_is_in_recovery() "
+            + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) END";
+
+    /**
+     * How long reads of a volunteer stay on the primary after it was written. Must cover
+     * {@link #maxLag} plus the lag check interval.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * Connection pool size of each replica.
+     */
+    private int maximumPoolSize = 10;
+
+    private List<Node> nodes = new ArrayList<>();
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public Selection getSelection() {
+        return selection;
+    }
+
+    public void setSelection(Selection selection) {
+        this.selection = selection;
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(Duration maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public String getLagQuery() {
+        return lagQuery;
+    }
+
+    public void setLagQuery(String lagQuery) {
+        this.lagQuery = lagQuery;
+    }
+
+    public Duration getReadYourWritesWindow() {
+        return readYourWritesWindow;
+    }
+
+    public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public List<Node> getNodes() {
+        return nodes;
+    }
+
+    public void setNodes(List<Node> nodes) {
+        this.nodes = nodes;
+    }
+
+    public enum Selection {
+        ROUND_ROBIN,
+        /**
+         * The replica with the fewest connections in use.
+         */
+        LEAST_CONNECTIONS
+    }
+
+    /**
+     * One replica. Username and password default to those of the primary.
+     */
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+
+        // Getters and Setters
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.volunteer.service.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteer.service.dto.ApiResponse;
+import com.volunteer.service.dto.VolunteerBatchResultDTO;
+import com.volunteer.service.dto.VolunteerBatchUpdateItemDTO;
+import com.volunteer.service.dto.VolunteerImportReportDTO;
+import com.volunteer.service.importer.VolunteerImportReader;
+import com.volunteer.service.importer.VolunteerImportService;
+import com.volunteer.service.service.VolunteerBatchService;
+
+/**
+ * REST Controller for bulk volunteer operations.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@CrossOrigin(origins = {"http://localhost:5174"})
+public class VolunteerBatchController {
+
+    private static final String TEXT_CSV = "text/csv";
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final VolunteerBatchService volunteerBatchService;
+    private final VolunteerImportService volunteerImportService;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public VolunteerBatchController(VolunteerBatchService volunteerBatchService,
+                                    VolunteerImportService volunteerImportService,
+                                    ObjectMapper objectMapper) {
+        this.volunteerBatchService = volunteerBatchService;
+        this.volunteerImportService = volunteerImportService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Import volunteers from a CSV or NDJSON request body, upserting on email.
+     * The body is streamed, so files of any size can be sent without buffering.
+     */
+    @PostMapping(value = "/volunteers/import", consumes = {TEXT_CSV, APPLICATION_NDJSON})
+    public ResponseEntity<ApiResponse<VolunteerImportReportDTO>> importVolunteers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body) throws IOException {
+        VolunteerImportReader reader = MediaType.parseMediaType(TEXT_CSV).includes(MediaType.parseMediaType(contentType))
+                ? VolunteerImportReader.csv(body, objectMapper)
+                : VolunteerImportReader.ndjson(body, objectMapper);
+        VolunteerImportReportDTO report = volunteerImportService.importVolunteers(reader);
+        String message = "Import finished: " + report.getInserted() + " inserted, " + report.getUpdated()
+                + " updated, " + report.getRejected() + " rejected";
+        return ResponseEntity.ok(ApiResponse.success(message, report));
+    }
+
+    /**
+     * Update many volunteer profiles in one request.
+     * Items are validated individually; returns 207 Multi-Status when some items failed.
+     */
+    @PatchMapping("/volunteers:batch")
+    public ResponseEntity<ApiResponse<VolunteerBatchResultDTO>> updateVolunteers(
+            @RequestBody List<VolunteerBatchUpdateItemDTO> updates) {
+        VolunteerBatchResultDTO result = volunteerBatchService.updateVolunteers(updates);
+        String message = result.getUpdated() + " volunteers updated, " + result.getUnchanged() + " unchanged, "
+                + result.getFailed() + " failed";
+        if (result.getFailed() > 0) {
+            return ResponseEntity.status(HttpStatus.MULTI_STATUS).body(ApiResponse.success(message, result));
+        }
+        return ResponseEntity.ok(ApiResponse.success(message, result));
+    }
+}
@@ -1,51 +1,200 @@
 package com.volunteer.service.controller;
 
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.volunteer.service.cache.ResponseBodyCache;
+import com.volunteer.service.cache.VolunteerCacheKeys;
 import com.volunteer.service.dto.ApiResponse;
+import com.volunteer.service.dto.VolunteerDrivePageDTO;
+import com.volunteer.service.dto.VolunteerNearbyResultDTO;
 import com.volunteer.service.dto.VolunteerResponseDTO;
+import com.volunteer.service.dto.VolunteerSearchResultDTO;
 import com.volunteer.service.dto.VolunteerUpdateDTO;
+import com.volunteer.service.model.DriveStatus;
+import com.volunteer.service.service.VolunteerCacheWarmer;
+import com.volunteer.service.service.VolunteerExportService;
+import com.volunteer.service.service.VolunteerSearchService;
 import com.volunteer.service.service.VolunteerService;
+import com.volunteer.service.service.VolunteerUpdateResult;
 
 import jakarta.validation.Valid;
 
 /**
  * REST Controller for volunteer management.
- * Provides the 4 essential APIs for volunteer operations.
+ * Provides the essential APIs for volunteer operations.
  */
 @RestController
 @RequestMapping("/api/v1/volunteers")
 @CrossOrigin(origins = {"http://localhost:5174"})
 public class VolunteerController {
 
+    private static final int DEFAULT_DRIVE_PAGE_SIZE = 50;
+    private static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+    private static final String PREFER = "Prefer";
+    private static final String PREFERENCE_APPLIED = "Preference-Applied";
+
     private final VolunteerService volunteerService;
+    private final VolunteerSearchService volunteerSearchService;
+    private final VolunteerExportService volunteerExportService;
+    private final ResponseBodyCache responseBodyCache;
+    private final VolunteerCacheWarmer cacheWarmer;
 
     @Autowired
-    public VolunteerController(VolunteerService volunteerService) {
+    public VolunteerController(VolunteerService volunteerService,
+                               VolunteerSearchService volunteerSearchService,
+                               VolunteerExportService volunteerExportService,
+                               ResponseBodyCache responseBodyCache,
+                               VolunteerCacheWarmer cacheWarmer) {
         this.volunteerService = volunteerService;
+        this.volunteerSearchService = volunteerSearchService;
+        this.volunteerExportService = volunteerExportService;
+        this.responseBodyCache = responseBodyCache;
+        this.cacheWarmer = cacheWarmer;
+    }
+
+    /**
+     * Export all volunteers as NDJSON (default) or CSV.
+     * The response is streamed from a database cursor, so memory use is independent of the roster size.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportVolunteers(@RequestParam(defaultValue = "ndjson") String format) {
+        VolunteerExportService.Format exportFormat = VolunteerExportService.Format.of(format);
+        volunteerExportService.checkReady();
+        StreamingResponseBody body = out -> volunteerExportService.export(out, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("volunteers." + exportFormat.getExtension()).build().toString())
+                .body(body);
+    }
+
+    /**
+     * Search volunteers by skills and interests.
+     * Values are comma separated and case-insensitive; match=all requires every value, match=any at least one.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<VolunteerSearchResultDTO>> searchVolunteers(
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(required = false) List<String> interests,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(defaultValue = "all") String match,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        VolunteerSearchResultDTO result = volunteerSearchService.search(skills, interests, active, match, page, size);
+        ApiResponse<VolunteerSearchResultDTO> response = ApiResponse.success("Volunteers retrieved successfully", result);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Find volunteers within a radius of a point, nearest first.
+     * Optional filters: active status, availability on a weekday (e.g. day=MONDAY) and weekend availability.
+     */
+    @GetMapping("/nearby")
+    public ResponseEntity<ApiResponse<VolunteerNearbyResultDTO>> getNearbyVolunteers(
+            @RequestParam double lat,
+            @RequestParam double lon,
+            @RequestParam(defaultValue = "10") double radiusKm,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String day,
+            @RequestParam(required = false) Boolean weekends,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        VolunteerNearbyResultDTO result = volunteerSearchService.nearby(lat, lon, radiusKm, active, day, weekends, page, size);
+        ApiResponse<VolunteerNearbyResultDTO> response = ApiResponse.success("Nearby volunteers retrieved successfully", result);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Get a volunteer profile.
+     * Honors If-None-Match: when the client's ETag is current a 304 is returned
+     * without loading the profile.
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<VolunteerResponseDTO>> getVolunteer(@PathVariable Long id, WebRequest request) {
+        if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && request.checkNotModified(volunteerService.getVolunteerETag(id))) {
+            cacheWarmer.recordAccess(id);
+            return null; // 304 Not Modified already prepared
+        }
+        VolunteerResponseDTO volunteer = volunteerService.getVolunteer(id);
+        cacheWarmer.recordAccess(id);
+        ApiResponse<VolunteerResponseDTO> response = ApiResponse.success("Volunteer retrieved successfully", volunteer);
+        return ResponseEntity.ok().eTag(VolunteerService.etagFor(volunteer)).body(response);
     }
 
     /**
      * Update volunteer information including location, skills, and availability.
+     * Honors If-Match: the update is only applied to the version named by the ETag (412 otherwise).
+     * Without it, concurrent updates of different fields are merged; overlapping ones get a 409.
+     * With {@code Prefer: return=minimal} a 204 carrying only the new ETag is returned.
      */
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<VolunteerResponseDTO>> updateVolunteer(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = PREFER, required = false) String prefer,
             @Valid @RequestBody VolunteerUpdateDTO updateDTO) {
-        VolunteerResponseDTO volunteer = volunteerService.updateVolunteer(id, updateDTO);
-        ApiResponse<VolunteerResponseDTO> response = ApiResponse.success("Volunteer profile updated successfully", volunteer);
-        return ResponseEntity.ok(response);
+        boolean minimal = prefersMinimal(prefer);
+        VolunteerUpdateResult result = volunteerService.updateVolunteer(id, updateDTO, expectedVersions(id, ifMatch), !minimal);
+        return updateResponse(result, minimal);
+    }
+
+    /**
+     * Partially update a volunteer with a JSON Merge Patch (RFC 7386); {@code null} clears a field.
+     * Only changed columns are written, and a patch that changes nothing writes nothing.
+     * Supports If-Match and {@code Prefer: return=minimal} like PUT.
+     */
+    @PatchMapping(value = "/{id}", consumes = {MERGE_PATCH_JSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<ApiResponse<VolunteerResponseDTO>> patchVolunteer(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = PREFER, required = false) String prefer,
+            @RequestBody JsonNode patch) {
+        boolean minimal = prefersMinimal(prefer);
+        VolunteerUpdateResult result = volunteerService.patchVolunteer(id, patch, expectedVersions(id, ifMatch), !minimal);
+        return updateResponse(result, minimal);
+    }
+
+    private static Set<Long> expectedVersions(Long id, String ifMatch) {
+        return ifMatch == null ? null : VolunteerService.versionsFromIfMatch(id, ifMatch);
+    }
+
+    private static boolean prefersMinimal(String prefer) {
+        return prefer != null && prefer.replace(" ", "").toLowerCase(Locale.ROOT).contains("return=minimal");
+    }
+
+    private static ResponseEntity<ApiResponse<VolunteerResponseDTO>> updateResponse(VolunteerUpdateResult result,
+                                                                                   boolean minimal) {
+        if (minimal) {
+            return ResponseEntity.noContent().eTag(result.etag()).header(PREFERENCE_APPLIED, "return=minimal").build();
+        }
+        ApiResponse<VolunteerResponseDTO> response = ApiResponse.success(result.changed()
+                ? "Volunteer profile updated successfully" : "Volunteer profile unchanged", result.volunteer());
+        return ResponseEntity.ok().eTag(result.etag()).body(response);
     }
 
     /**
@@ -58,23 +207,77 @@ public class VolunteerController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Record that the volunteer applied for a drive. Returns 201 when added, 200 if it was already recorded.
+     */
+    @PostMapping("/{id}/drives/{driveId}/apply")
+    public ResponseEntity<ApiResponse<Object>> applyForDrive(@PathVariable Long id, @PathVariable String driveId) {
+        boolean added = volunteerService.addDrive(id, driveId, DriveStatus.APPLIED);
+        ApiResponse<Object> response = ApiResponse.success(added
+                ? "Drive application recorded successfully" : "Drive application already recorded");
+        return ResponseEntity.status(added ? HttpStatus.CREATED : HttpStatus.OK).body(response);
+    }
+
+    /**
+     * Record that the volunteer completed a drive. Returns 201 when added, 200 if it was already recorded.
+     */
+    @PostMapping("/{id}/drives/{driveId}/complete")
+    public ResponseEntity<ApiResponse<Object>> completeDrive(@PathVariable Long id, @PathVariable String driveId) {
+        boolean added = volunteerService.addDrive(id, driveId, DriveStatus.COMPLETED);
+        ApiResponse<Object> response = ApiResponse.success(added
+                ? "Drive completion recorded successfully" : "Drive completion already recorded");
+        return ResponseEntity.status(added ? HttpStatus.CREATED : HttpStatus.OK).body(response);
+    }
+
     /**
      * Get list of drives/postings the volunteer has completed.
+     * Served from the encoded response cache, gzip'd when the client accepts it.
+     * With {@code after} or {@code limit} a single page is returned instead, see {@link #drivePage}.
      */
-    @GetMapping("/{id}/drives/completed")
-    public ResponseEntity<ApiResponse<List<String>>> getDrivesCompleted(@PathVariable Long id) {
-        List<String> completedDrives = volunteerService.getDrivesCompleted(id);
-        ApiResponse<List<String>> response = ApiResponse.success("Completed drives retrieved successfully", completedDrives);
-        return ResponseEntity.ok(response);
+    @GetMapping(value = "/{id}/drives/completed", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getDrivesCompleted(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (after != null || limit != null) {
+            return drivePage(id, DriveStatus.COMPLETED, after, limit);
+        }
+        ResponseEntity<byte[]> response = responseBodyCache.get(VolunteerCacheKeys.DRIVES_COMPLETED, id, acceptEncoding,
+                () -> ApiResponse.success("Completed drives retrieved successfully", volunteerService.getDrivesCompleted(id)));
+        cacheWarmer.recordAccess(id);
+        return response;
     }
 
     /**
      * Get list of drives/postings the volunteer has applied for (scheduled).
+     * Served from the encoded response cache, gzip'd when the client accepts it.
+     * With {@code after} or {@code limit} a single page is returned instead, see {@link #drivePage}.
      */
-    @GetMapping("/{id}/drives/scheduled")
-    public ResponseEntity<ApiResponse<List<String>>> getDrivesScheduled(@PathVariable Long id) {
-        List<String> scheduledDrives = volunteerService.getDrivesScheduled(id);
-        ApiResponse<List<String>> response = ApiResponse.success("Scheduled drives retrieved successfully", scheduledDrives);
-        return ResponseEntity.ok(response);
+    @GetMapping(value = "/{id}/drives/scheduled", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<?> getDrivesScheduled(
+            @PathVariable Long id,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) Integer limit,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (after != null || limit != null) {
+            return drivePage(id, DriveStatus.APPLIED, after, limit);
+        }
+        ResponseEntity<byte[]> response = responseBodyCache.get(VolunteerCacheKeys.DRIVES_SCHEDULED, id, acceptEncoding,
+                () -> ApiResponse.success("Scheduled drives retrieved successfully", volunteerService.getDrivesScheduled(id)));
+        cacheWarmer.recordAccess(id);
+        return response;
+    }
+
+    /**
+     * One page of a drive list, oldest first. Pass the returned nextCursor as {@code after}
+     * to continue; the cursor stays valid while drives are recorded.
+     */
+    private ResponseEntity<ApiResponse<VolunteerDrivePageDTO>> drivePage(Long id, DriveStatus status,
+                                                                         String after, Integer limit) {
+        VolunteerDrivePageDTO page = volunteerService.getDrivePage(id, status, after,
+                limit == null ? DEFAULT_DRIVE_PAGE_SIZE : limit);
+        cacheWarmer.recordAccess(id);
+        return ResponseEntity.ok(ApiResponse.success("Drives retrieved successfully", page));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package com.volunteer.service.datasource;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.volunteer.service.cache.CacheInvalidationMessage;
+import com.volunteer.service.cache.VolunteerCacheKeys;
+
+/**
+ * Keeps reads of a recently written volunteer on the primary until the replicas have caught up.
+ *
+ * Writes are learned from cache invalidations: every mutation evicts the volunteer's ETag,
+ * on this node after commit and on the other nodes through the invalidation broadcast.
+ * A read-only transaction that touches such a volunteer is pinned to the primary, so neither
+ * the response nor the cache entry it repopulates can predate the write.
+ */
+public class ReadYourWrites {
+
+    private static final String PRIMARY_REQUIRED = ReadYourWrites.class.getName() + ".PRIMARY_REQUIRED";
+
+    private final Cache<Long, Boolean> recentWrites;
+    private final long windowNanos;
+    private volatile long allWrittenUntil = System.nanoTime();
+
+    public ReadYourWrites(Duration window) {
+        this.windowNanos = window.toNanos();
+        this.recentWrites = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public void recordWrite(Long id) {
+        recentWrites.put(id, Boolean.TRUE);
+    }
+
+    /**
+     * Record the volunteers whose ETag is among the invalidated entries. Clearing the
+     * whole ETag cache counts as a write to every volunteer.
+     */
+    public void recordWrites(List<CacheInvalidationMessage.Entry> entries) {
+        for (CacheInvalidationMessage.Entry entry : entries) {
+            if (!VolunteerCacheKeys.VOLUNTEER_ETAGS.equals(entry.cacheName())) {
+                continue;
+            }
+            if (entry.key() == null) {
+                allWrittenUntil = System.nanoTime() + windowNanos;
+                continue;
+            }
+            try {
+                recordWrite(Long.valueOf(entry.key()));
+            } catch (NumberFormatException e) {
+                // Not a volunteer id
+            }
+        }
+    }
+
+    /**
+     * Pin the current transaction to the primary if the volunteer was written recently.
+     */
+    public void route(Long id) {
+        if (allWrittenUntil - System.nanoTime() > 0 || recentWrites.getIfPresent(id) != null) {
+            requirePrimary();
+        }
+    }
+
+    /**
+     * Pin the current transaction to the primary if any of the volunteers was written recently.
+     */
+    public void route(Collection<Long> ids) {
+        if (allWrittenUntil - System.nanoTime() > 0) {
+            requirePrimary();
+            return;
+        }
+        for (Long id : ids) {
+            if (recentWrites.getIfPresent(id) != null) {
+                requirePrimary();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Whether the current transaction must read from the primary.
+     */
+    public static boolean isPrimaryRequired() {
+        return TransactionSynchronizationManager.hasResource(PRIMARY_REQUIRED);
+    }
+
+    /**
+     * Holds until the transaction completes. Must run before the transaction's first query,
+     * which is when the connection, and with it the database, is chosen.
+     */
+    private static void requirePrimary() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(PRIMARY_REQUIRED)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(PRIMARY_REQUIRED, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PRIMARY_REQUIRED);
+            }
+        });
+    }
+}
@@ -0,0 +1,191 @@
+package com.volunteer.service.datasource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.volunteer.service.config.ReplicaProperties.Selection;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Hands out replica connections for read-only transactions.
+ *
+ * Used as the read-only target of a {@code LazyConnectionDataSourceProxy}, which only asks for
+ * a connection at the first statement, once the transaction is known to be read-only. Falls back
+ * to the primary when the transaction read-your-writes pinned it, when every replica lags more than
+ * the allowed maximum or is unreachable, and when opening the replica connection fails.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final HikariDataSource primary;
+    private final List<Replica> replicas;
+    private final Selection selection;
+    private final long maxLagMillis;
+    private final String lagQuery;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(HikariDataSource primary,
+                                    List<HikariDataSource> replicas,
+                                    Selection selection,
+                                    Duration maxLag,
+                                    String lagQuery,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicas.size());
+        for (HikariDataSource dataSource : replicas) {
+            Replica replica = new Replica(dataSource);
+            this.replicas.add(replica);
+            Gauge.builder("volunteer.datasource.replica.lag", replica, r -> r.lagMillis / 1000.0)
+                    .description("Replication lag at the last check, negative when the replica is unreachable")
+                    .tag("replica", dataSource.getPoolName())
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+        }
+        this.selection = selection;
+        this.maxLagMillis = maxLag.toMillis();
+        this.lagQuery = lagQuery;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(HikariDataSource::getConnection);
+    }
+
+    /**
+     * Routed like {@link #getConnection()}. The pools only hold connections of the configured
+     * user, so the connection is opened directly against the chosen database.
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> {
+            Connection connection = DriverManager.getConnection(dataSource.getJdbcUrl(), username, password);
+            connection.setReadOnly(dataSource.isReadOnly());
+            return connection;
+        });
+    }
+
+    private Connection connect(Opener opener) throws SQLException {
+        if (ReadYourWrites.isPrimaryRequired()) {
+            return fromPrimary(opener, "recent-write");
+        }
+        Replica replica = select();
+        if (replica == null) {
+            return fromPrimary(opener, "no-replica");
+        }
+        try {
+            Connection connection = opener.open(replica.dataSource);
+            meterRegistry.counter("volunteer.datasource.reads", "target", replica.name(), "reason", "replica")
+                    .increment();
+            return connection;
+        } catch (SQLException e) {
+            log.warn("Replica {} unavailable, reading from primary: {}", replica.name(), e.getMessage());
+            replica.available = false;
+            return fromPrimary(opener, "replica-error");
+        }
+    }
+
+    /**
+     * Measure the lag of every replica; replicas behind by more than the maximum, or unreachable,
+     * receive no reads until a later check finds them caught up.
+     */
+    @Scheduled(fixedDelayString = "${volunteer.replicas.lag-check-interval:PT1S}")
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet rs = statement.executeQuery(lagQuery)) {
+                long lagMillis = rs.next() ? Math.round(rs.getDouble(1) * 1000) : 0;
+                boolean available = lagMillis <= maxLagMillis;
+                if (available != replica.available) {
+                    log.info("Replica {} {} (lag {} ms)", replica.name(), available ? "in service" : "out of service",
+                            lagMillis);
+                }
+                replica.lagMillis = lagMillis;
+                replica.available = available;
+            } catch (SQLException e) {
+                if (replica.available) {
+                    log.warn("Replica {} out of service: {}", replica.name(), e.getMessage());
+                }
+                replica.lagMillis = -1;
+                replica.available = false;
+            }
+        }
+    }
+
+    public void close() {
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+    }
+
+    private Connection fromPrimary(Opener opener, String reason) throws SQLException {
+        meterRegistry.counter("volunteer.datasource.reads", "target", "primary", "reason", reason).increment();
+        return opener.open(primary);
+    }
+
+    private Replica select() {
+        List<Replica> candidates = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.available) {
+                candidates.add(replica);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        if (selection == Selection.LEAST_CONNECTIONS) {
+            Replica least = candidates.get(0);
+            for (Replica replica : candidates) {
+                if (replica.activeConnections() < least.activeConnections()) {
+                    least = replica;
+                }
+            }
+            return least;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    @FunctionalInterface
+    private interface Opener {
+        Connection open(HikariDataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+        private final HikariDataSource dataSource;
+        // Out of service until the first lag check
+        private volatile boolean available;
+        private volatile long lagMillis = -1;
+
+        private Replica(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        private String name() {
+            return dataSource.getPoolName();
+        }
+
+        private int activeConnections() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.volunteer.service.dto;
+
+/**
+ * DTO for a volunteer returned by a nearby query, with its distance from the query point.
+ */
+public class NearbyVolunteerDTO {
+
+    private double distanceKm;
+    private VolunteerResponseDTO volunteer;
+
+    // Constructors
+    public NearbyVolunteerDTO() {
+        // Default constructor for serialization
+    }
+
+    public NearbyVolunteerDTO(double distanceKm, VolunteerResponseDTO volunteer) {
+        this.distanceKm = distanceKm;
+        this.volunteer = volunteer;
+    }
+
+    // Getters and Setters
+    public double getDistanceKm() {
+        return distanceKm;
+    }
+
+    public void setDistanceKm(double distanceKm) {
+        this.distanceKm = distanceKm;
+    }
+
+    public VolunteerResponseDTO getVolunteer() {
+        return volunteer;
+    }
+
+    public void setVolunteer(VolunteerResponseDTO volunteer) {
+        this.volunteer = volunteer;
+    }
+}
@@ -0,0 +1,115 @@
+package com.volunteer.service.dto;
+
+import java.util.List;
+
+/**
+ * DTO for the outcome of a batch profile update, one result per submitted item in request order.
+ */
+public class VolunteerBatchResultDTO {
+
+    public static final String UPDATED = "UPDATED";
+    public static final String UNCHANGED = "UNCHANGED";
+    public static final String NOT_FOUND = "NOT_FOUND";
+    public static final String INVALID = "INVALID";
+    public static final String FAILED = "FAILED";
+    public static final String CONFLICT = "CONFLICT";
+
+    private int updated;
+    private int unchanged;
+    private int failed;
+    private List<ItemResult> results;
+
+    // Constructors
+    public VolunteerBatchResultDTO() {
+        // Default constructor for serialization
+    }
+
+    public VolunteerBatchResultDTO(List<ItemResult> results) {
+        this.results = results;
+        for (ItemResult result : results) {
+            if (UPDATED.equals(result.getStatus())) {
+                updated++;
+            } else if (UNCHANGED.equals(result.getStatus())) {
+                unchanged++;
+            } else {
+                failed++;
+            }
+        }
+    }
+
+    // Getters and Setters
+    public int getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(int updated) {
+        this.updated = updated;
+    }
+
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    public void setUnchanged(int unchanged) {
+        this.unchanged = unchanged;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<ItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<ItemResult> results) {
+        this.results = results;
+    }
+
+    /**
+     * Result of a single batch item.
+     */
+    public static class ItemResult {
+        private Long id;
+        private String status; // UPDATED, UNCHANGED, NOT_FOUND, INVALID, CONFLICT or FAILED
+        private String error;
+
+        public ItemResult() {
+            // Default constructor for serialization
+        }
+
+        public ItemResult(Long id, String status, String error) {
+            this.id = id;
+            this.status = status;
+            this.error = error;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public String getError() {
+            return error;
+        }
+
+        public void setError(String error) {
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.volunteer.service.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO for one entry of a batch profile update: the target volunteer id plus the fields to change.
+ */
+public class VolunteerBatchUpdateItemDTO extends VolunteerUpdateDTO {
+
+    @NotNull
+    private Long id;
+
+    // Constructors
+    public VolunteerBatchUpdateItemDTO() {
+        // Default constructor for serialization
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+}
@@ -0,0 +1,50 @@
+package com.volunteer.service.dto;
+
+import java.util.List;
+
+/**
+ * DTO for one page of a volunteer's drive history, oldest first.
+ * {@code nextCursor} is null on the last page.
+ */
+public class VolunteerDrivePageDTO {
+
+    private List<String> drives;
+    private String nextCursor;
+    private boolean hasMore;
+
+    // Constructors
+    public VolunteerDrivePageDTO() {
+        // Default constructor for serialization
+    }
+
+    public VolunteerDrivePageDTO(List<String> drives, String nextCursor) {
+        this.drives = drives;
+        this.nextCursor = nextCursor;
+        this.hasMore = nextCursor != null;
+    }
+
+    // Getters and Setters
+    public List<String> getDrives() {
+        return drives;
+    }
+
+    public void setDrives(List<String> drives) {
+        this.drives = drives;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
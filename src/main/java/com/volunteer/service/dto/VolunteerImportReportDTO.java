@@ -0,0 +1,131 @@
+package com.volunteer.service.dto;
+
+import java.util.List;
+
+/**
+ * DTO summarising a bulk volunteer import.
+ */
+public class VolunteerImportReportDTO {
+
+    private long rowsRead;
+    private long inserted;
+    private long updated;
+    private long rejected;
+    private long duplicates; // Rows superseded by a later row with the same email in the same batch
+    private long durationMs;
+    private double rowsPerSecond;
+    private List<RejectedRow> rejects; // First rejects only, see volunteer.import.max-reported-rejects
+
+    // Constructors
+    public VolunteerImportReportDTO() {
+        // Default constructor for serialization
+    }
+
+    // Getters and Setters
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public void setRowsRead(long rowsRead) {
+        this.rowsRead = rowsRead;
+    }
+
+    public long getInserted() {
+        return inserted;
+    }
+
+    public void setInserted(long inserted) {
+        this.inserted = inserted;
+    }
+
+    public long getUpdated() {
+        return updated;
+    }
+
+    public void setUpdated(long updated) {
+        this.updated = updated;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(long rejected) {
+        this.rejected = rejected;
+    }
+
+    public long getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(long duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public double getRowsPerSecond() {
+        return rowsPerSecond;
+    }
+
+    public void setRowsPerSecond(double rowsPerSecond) {
+        this.rowsPerSecond = rowsPerSecond;
+    }
+
+    public List<RejectedRow> getRejects() {
+        return rejects;
+    }
+
+    public void setRejects(List<RejectedRow> rejects) {
+        this.rejects = rejects;
+    }
+
+    /**
+     * A row that was not imported.
+     */
+    public static class RejectedRow {
+        private long row;
+        private String email;
+        private String reason;
+
+        public RejectedRow() {
+            // Default constructor for serialization
+        }
+
+        public RejectedRow(long row, String email, String reason) {
+            this.row = row;
+            this.email = email;
+            this.reason = reason;
+        }
+
+        public long getRow() {
+            return row;
+        }
+
+        public void setRow(long row) {
+            this.row = row;
+        }
+
+        public String getEmail() {
+            return email;
+        }
+
+        public void setEmail(String email) {
+            this.email = email;
+        }
+
+        public String getReason() {
+            return reason;
+        }
+
+        public void setReason(String reason) {
+            this.reason = reason;
+        }
+    }
+}
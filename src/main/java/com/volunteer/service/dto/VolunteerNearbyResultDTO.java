@@ -0,0 +1,59 @@
+package com.volunteer.service.dto;
+
+import java.util.List;
+
+/**
+ * DTO for one page of nearby volunteers, nearest first.
+ */
+public class VolunteerNearbyResultDTO {
+
+    private long total;
+    private int page;
+    private int size;
+    private List<NearbyVolunteerDTO> volunteers;
+
+    // Constructors
+    public VolunteerNearbyResultDTO() {
+        // Default constructor for serialization
+    }
+
+    public VolunteerNearbyResultDTO(long total, int page, int size, List<NearbyVolunteerDTO> volunteers) {
+        this.total = total;
+        this.page = page;
+        this.size = size;
+        this.volunteers = volunteers;
+    }
+
+    // Getters and Setters
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public List<NearbyVolunteerDTO> getVolunteers() {
+        return volunteers;
+    }
+
+    public void setVolunteers(List<NearbyVolunteerDTO> volunteers) {
+        this.volunteers = volunteers;
+    }
+}
@@ -23,6 +23,7 @@ public class VolunteerResponseDTO {
     private Boolean isActive;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     // Constructors
     public VolunteerResponseDTO() {
@@ -150,6 +151,14 @@ public class VolunteerResponseDTO {
         this.updatedAt = updatedAt;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     /**
      * Simple availability DTO for nested data.
      */
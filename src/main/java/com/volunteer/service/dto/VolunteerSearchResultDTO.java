@@ -0,0 +1,59 @@
+package com.volunteer.service.dto;
+
+import java.util.List;
+
+/**
+ * DTO for one page of volunteer search results.
+ */
+public class VolunteerSearchResultDTO {
+
+    private long total;
+    private int page;
+    private int size;
+    private List<VolunteerResponseDTO> volunteers;
+
+    // Constructors
+    public VolunteerSearchResultDTO() {
+        // Default constructor for serialization
+    }
+
+    public VolunteerSearchResultDTO(long total, int page, int size, List<VolunteerResponseDTO> volunteers) {
+        this.total = total;
+        this.page = page;
+        this.size = size;
+        this.volunteers = volunteers;
+    }
+
+    // Getters and Setters
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public List<VolunteerResponseDTO> getVolunteers() {
+        return volunteers;
+    }
+
+    public void setVolunteers(List<VolunteerResponseDTO> volunteers) {
+        this.volunteers = volunteers;
+    }
+}
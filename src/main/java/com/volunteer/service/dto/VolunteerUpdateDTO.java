@@ -22,9 +22,9 @@ public class VolunteerUpdateDTO {
 
     private Double longitude;
 
-    private List<String> skills;
+    private List<@Size(max = 100) String> skills;
 
-    private List<String> interests;
+    private List<@Size(max = 100) String> interests;
 
     private AvailabilityUpdateDTO availability;
 
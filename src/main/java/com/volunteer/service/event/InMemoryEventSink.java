@@ -0,0 +1,40 @@
+package com.volunteer.service.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Bounded in-process event sink for local development and tests.
+ * When the queue is full the remaining events stay in the outbox until it drains.
+ */
+public class InMemoryEventSink implements VolunteerEventSink {
+
+    private final BlockingQueue<VolunteerEvent> queue;
+
+    public InMemoryEventSink(int capacity) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+    }
+
+    @Override
+    public int publish(List<VolunteerEvent> events) {
+        int accepted = 0;
+        for (VolunteerEvent event : events) {
+            if (!queue.offer(event)) {
+                break;
+            }
+            accepted++;
+        }
+        return accepted;
+    }
+
+    /**
+     * Remove and return every event received so far.
+     */
+    public List<VolunteerEvent> drain() {
+        List<VolunteerEvent> events = new ArrayList<>();
+        queue.drainTo(events);
+        return events;
+    }
+}
@@ -0,0 +1,84 @@
+package com.volunteer.service.event;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+/**
+ * Redis lease that makes one node at a time the outbox publisher.
+ *
+ * Unlike the cache load lock, the lease is needed for correctness: two publishers would
+ * interleave the events of a volunteer. So a node that cannot reach Redis does not publish,
+ * and the holder renews the lease before every batch, stopping as soon as it lost it.
+ */
+public class PublisherLease {
+
+    private static final Logger log = LoggerFactory.getLogger(PublisherLease.class);
+
+    private static final RedisScript<Long> RENEW = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String key;
+    private final Duration ttl;
+
+    public PublisherLease(StringRedisTemplate redisTemplate, String key, Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Take the lease. Returns its token, or null if another node holds it or Redis is unreachable.
+     */
+    public String tryAcquire() {
+        String token = UUID.randomUUID().toString();
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, ttl)) ? token : null;
+        } catch (RuntimeException ex) {
+            log.warn("Event publisher lease unavailable, not publishing: {}", ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Extend the lease by a full TTL. Returns false if it expired or Redis is unreachable,
+     * in which case the caller must stop publishing.
+     */
+    public boolean renew(String token) {
+        try {
+            Long renewed = redisTemplate.execute(RENEW, keys(), token, String.valueOf(ttl.toMillis()));
+            return renewed != null && renewed == 1;
+        } catch (RuntimeException ex) {
+            log.warn("Failed to renew event publisher lease: {}", ex.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Release the lease if it is still ours.
+     */
+    public void release(String token) {
+        try {
+            redisTemplate.execute(RELEASE, keys(), token);
+        } catch (RuntimeException ex) {
+            log.debug("Failed to release event publisher lease: {}", ex.getMessage());
+        }
+    }
+
+    private List<String> keys() {
+        return Collections.singletonList(key);
+    }
+}
@@ -0,0 +1,66 @@
+package com.volunteer.service.event;
+
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * Publishes volunteer events to a Redis stream, one entry per event, in a single pipeline.
+ *
+ * Consumers read with a consumer group; the {@code eventId} field is the outbox id and
+ * lets them drop the duplicates that at-least-once delivery can produce. The stream is
+ * trimmed to roughly the configured length.
+ */
+public class RedisStreamEventSink implements VolunteerEventSink {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisStreamEventSink.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final byte[] stream;
+    private final long maxLength;
+
+    public RedisStreamEventSink(StringRedisTemplate redisTemplate, String stream, long maxLength) {
+        this.redisTemplate = redisTemplate;
+        this.stream = stream.getBytes(StandardCharsets.UTF_8);
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public int publish(List<VolunteerEvent> events) {
+        XAddOptions options = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (VolunteerEvent event : events) {
+                    connection.streamCommands().xAdd(MapRecord.create(stream, fields(event)), options);
+                }
+                return null;
+            });
+            return events.size();
+        } catch (RuntimeException ex) {
+            // Part of the pipeline may have been applied; the whole batch is retried
+            log.warn("Failed to publish {} volunteer events: {}", events.size(), ex.getMessage());
+            return 0;
+        }
+    }
+
+    private static Map<byte[], byte[]> fields(VolunteerEvent event) {
+        Map<byte[], byte[]> fields = new LinkedHashMap<>();
+        fields.put(bytes("eventId"), bytes(String.valueOf(event.id())));
+        fields.put(bytes("type"), bytes(event.type().name()));
+        fields.put(bytes("volunteerId"), bytes(String.valueOf(event.volunteerId())));
+        fields.put(bytes("occurredAt"), bytes(event.occurredAt().toString()));
+        return fields;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,10 @@
+package com.volunteer.service.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * A volunteer domain event as stored in the outbox.
+ * The id increases in commit order per volunteer and doubles as the event id for de-duplication.
+ */
+public record VolunteerEvent(long id, long volunteerId, VolunteerEventType type, LocalDateTime occurredAt) {
+}
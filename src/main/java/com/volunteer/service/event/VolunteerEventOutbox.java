@@ -0,0 +1,95 @@
+package com.volunteer.service.event;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Transactional outbox for volunteer events.
+ *
+ * Events are inserted through the connection of the surrounding transaction, so they
+ * are committed or rolled back together with the change they describe. The
+ * {@link VolunteerEventPublisher} drains the table in id order. Callers record events
+ * after flushing the change: the volunteer's row lock is then held, so events of one
+ * volunteer get ids in the order their transactions commit.
+ */
+@Component
+public class VolunteerEventOutbox {
+
+    private static final String INSERT =
+            "INSERT INTO volunteer_events (volunteer_id, event_type, occurred_at) VALUES (?, ?, ?)";
+    private static final String SELECT_BATCH =
+            "SELECT id, volunteer_id, event_type, occurred_at FROM volunteer_events ORDER BY id LIMIT ?";
+    private static final String DELETE =
+            "DELETE FROM volunteer_events WHERE id = ?";
+    private static final String COUNT =
+            "SELECT COUNT(*) FROM volunteer_events";
+
+    private static final RowMapper<VolunteerEvent> EVENT = VolunteerEventOutbox::mapRow;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public VolunteerEventOutbox(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Record an event in the current transaction.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(VolunteerEventType type, Long volunteerId) {
+        jdbcTemplate.update(INSERT, volunteerId, type.name(), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    /**
+     * Record one event per volunteer in the current transaction with a single batch.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(VolunteerEventType type, Collection<Long> volunteerIds) {
+        if (volunteerIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(volunteerIds.size());
+        volunteerIds.forEach(id -> rows.add(new Object[]{id, type.name(), now}));
+        jdbcTemplate.batchUpdate(INSERT, rows);
+    }
+
+    /**
+     * The oldest undelivered events.
+     */
+    public List<VolunteerEvent> nextBatch(int limit) {
+        return jdbcTemplate.query(SELECT_BATCH, EVENT, limit);
+    }
+
+    /**
+     * Remove delivered events. Deleted by id rather than by range: a transaction that took a
+     * lower id may still commit after later events were delivered.
+     */
+    public void delete(List<VolunteerEvent> events) {
+        List<Object[]> ids = new ArrayList<>(events.size());
+        events.forEach(event -> ids.add(new Object[]{event.id()}));
+        jdbcTemplate.batchUpdate(DELETE, ids);
+    }
+
+    public long backlog() {
+        Long count = jdbcTemplate.queryForObject(COUNT, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private static VolunteerEvent mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new VolunteerEvent(rs.getLong("id"), rs.getLong("volunteer_id"),
+                VolunteerEventType.valueOf(rs.getString("event_type")),
+                rs.getTimestamp("occurred_at").toLocalDateTime());
+    }
+}
@@ -0,0 +1,98 @@
+package com.volunteer.service.event;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Drains the event outbox to the configured {@link VolunteerEventSink}.
+ *
+ * One node at a time holds the publishing lease and delivers events in outbox id order,
+ * which keeps the events of each volunteer in commit order. Events are deleted only
+ * after the sink accepted them (at-least-once). A slow or failing sink stops the run at
+ * the first rejected event; the backlog waits in the table instead of in memory.
+ * The lease is renewed before every batch and the run stops once it is lost, so a slow
+ * run never overlaps with the next holder's.
+ */
+public class VolunteerEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(VolunteerEventPublisher.class);
+
+    private final VolunteerEventOutbox outbox;
+    private final VolunteerEventSink sink;
+    private final PublisherLease lease;
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter published;
+    private final Counter failures;
+
+    @Value("${volunteer.events.batch-size:500}")
+    private int batchSize;
+
+    @Value("${volunteer.events.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    public VolunteerEventPublisher(VolunteerEventOutbox outbox,
+                                   VolunteerEventSink sink,
+                                   PublisherLease lease,
+                                   MeterRegistry meterRegistry) {
+        this.outbox = outbox;
+        this.sink = sink;
+        this.lease = lease;
+        this.published = Counter.builder("volunteer.events.published").register(meterRegistry);
+        this.failures = Counter.builder("volunteer.events.publish.failures").register(meterRegistry);
+        Gauge.builder("volunteer.events.backlog", backlog, AtomicLong::get).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${volunteer.events.poll-interval:PT0.5S}")
+    public void drain() {
+        String token = lease.tryAcquire();
+        if (token == null) {
+            return; // Another node is publishing
+        }
+        try {
+            for (int run = 0; run < maxBatchesPerRun; run++) {
+                if (run > 0 && !lease.renew(token)) {
+                    return;
+                }
+                List<VolunteerEvent> batch = outbox.nextBatch(batchSize);
+                if (batch.isEmpty()) {
+                    return;
+                }
+                int accepted = sink.publish(batch);
+                if (accepted > 0) {
+                    outbox.delete(batch.subList(0, accepted));
+                    published.increment(accepted);
+                }
+                if (accepted < batch.size()) {
+                    failures.increment();
+                    return;
+                }
+            }
+        } catch (DataAccessException ex) {
+            log.warn("Volunteer event publishing failed: {}", ex.getMessage());
+        } finally {
+            lease.release(token);
+        }
+    }
+
+    /**
+     * Sample the outbox size for the backlog gauge, so a metrics scrape does not count the table.
+     */
+    @Scheduled(fixedDelayString = "${volunteer.events.backlog-sample-interval:PT15S}")
+    public void sampleBacklog() {
+        try {
+            backlog.set(outbox.backlog());
+        } catch (DataAccessException ex) {
+            log.debug("Could not sample the event backlog: {}", ex.getMessage());
+        }
+    }
+}
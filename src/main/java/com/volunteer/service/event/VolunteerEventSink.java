@@ -0,0 +1,15 @@
+package com.volunteer.service.event;
+
+import java.util.List;
+
+/**
+ * Destination of published volunteer events.
+ */
+public interface VolunteerEventSink {
+
+    /**
+     * Deliver events in the given order. Returns how many leading events were accepted;
+     * the publisher retries the rest later. Events may be delivered more than once.
+     */
+    int publish(List<VolunteerEvent> events);
+}
@@ -0,0 +1,10 @@
+package com.volunteer.service.event;
+
+/**
+ * Kinds of volunteer domain events.
+ */
+public enum VolunteerEventType {
+    VOLUNTEER_CREATED,
+    VOLUNTEER_UPDATED,
+    VOLUNTEER_DELETED
+}
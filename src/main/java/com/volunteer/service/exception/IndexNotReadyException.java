@@ -0,0 +1,11 @@
+package com.volunteer.service.exception;
+
+/**
+ * Exception thrown when an in-memory index is queried before it has finished loading.
+ */
+public class IndexNotReadyException extends RuntimeException {
+
+    public IndexNotReadyException(String message) {
+        super(message);
+    }
+}
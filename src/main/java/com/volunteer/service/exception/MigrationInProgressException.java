@@ -0,0 +1,11 @@
+package com.volunteer.service.exception;
+
+/**
+ * Exception thrown when an operation needs the legacy data migration to have finished first.
+ */
+public class MigrationInProgressException extends RuntimeException {
+
+    public MigrationInProgressException(String message) {
+        super(message);
+    }
+}
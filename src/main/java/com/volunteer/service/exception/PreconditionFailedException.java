@@ -0,0 +1,11 @@
+package com.volunteer.service.exception;
+
+/**
+ * Exception thrown when a conditional request (If-Match) names a version that is no longer current.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
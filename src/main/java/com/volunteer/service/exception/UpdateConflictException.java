@@ -0,0 +1,11 @@
+package com.volunteer.service.exception;
+
+/**
+ * Exception thrown when a concurrent update changed the same fields and the request cannot be merged.
+ */
+public class UpdateConflictException extends RuntimeException {
+
+    public UpdateConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,245 @@
+package com.volunteer.service.executor;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.volunteer.service.config.ExecutorProperties;
+import com.volunteer.service.config.ExecutorProperties.Backpressure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Named task executors, one per workload.
+ *
+ * A saturated pool applies backpressure instead of failing the submitter: the task
+ * either runs in the calling thread or the caller waits for queue space (see
+ * {@link Backpressure}). With virtual threads each pool is a virtual thread executor
+ * whose concurrency limit blocks submitters once reached.
+ *
+ * Pool size, active threads and queue depth are published as {@code executor.*} gauges,
+ * the time tasks spend queued and running as {@code volunteer.executor.wait} and
+ * {@code volunteer.executor.run}, all tagged with the pool name.
+ */
+public class ExecutorPools implements DisposableBean {
+
+    /**
+     * Application event listeners: legacy backfill, search index load and refresh. Default for {@code @Async}.
+     */
+    public static final String EVENTS = "events";
+
+    /**
+     * Startup cache warm-up.
+     */
+    public static final String CACHE_WARMUP = "cache-warmup";
+
+    /**
+     * Streaming responses such as the roster export.
+     */
+    public static final String EXPORT = "export";
+
+    private static final List<String> BUILT_IN = List.of(EVENTS, CACHE_WARMUP, EXPORT);
+
+    private final Map<String, AsyncTaskExecutor> executors = new LinkedHashMap<>();
+    private final Map<String, Backpressure> backpressure = new LinkedHashMap<>();
+
+    public ExecutorPools(ExecutorProperties properties, boolean virtualThreads, MeterRegistry meterRegistry) {
+        Set<String> names = new LinkedHashSet<>(BUILT_IN);
+        names.addAll(properties.getPools().keySet());
+        for (String name : names) {
+            ExecutorProperties.Pool pool = properties.poolFor(name);
+            executors.put(name, virtualThreads
+                    ? virtualThreadExecutor(name, pool, meterRegistry)
+                    : threadPoolExecutor(name, pool, meterRegistry));
+            backpressure.put(name, virtualThreads ? Backpressure.BLOCK : pool.getBackpressure());
+        }
+    }
+
+    public AsyncTaskExecutor get(String name) {
+        AsyncTaskExecutor executor = executors.get(name);
+        if (executor == null) {
+            throw new IllegalArgumentException("Unknown executor: " + name);
+        }
+        return executor;
+    }
+
+    public Set<String> names() {
+        return executors.keySet();
+    }
+
+    /**
+     * Current limits and load of a pool.
+     */
+    public Map<String, Object> describe(String name) {
+        AsyncTaskExecutor executor = get(name);
+        Map<String, Object> state = new LinkedHashMap<>();
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            ThreadPoolExecutor threads = pool.getThreadPoolExecutor();
+            state.put("coreSize", threads.getCorePoolSize());
+            state.put("maxSize", threads.getMaximumPoolSize());
+            state.put("poolSize", threads.getPoolSize());
+            state.put("activeThreads", threads.getActiveCount());
+            state.put("queued", threads.getQueue().size());
+            state.put("queueRemaining", threads.getQueue().remainingCapacity());
+        } else if (executor instanceof SimpleAsyncTaskExecutor virtual) {
+            state.put("virtualThreads", true);
+            state.put("maxSize", virtual.getConcurrencyLimit());
+        }
+        state.put("backpressure", backpressure.get(name).name());
+        return state;
+    }
+
+    /**
+     * Change the limits of a running pool. Null values keep the current setting.
+     * On virtual threads only the max size (concurrency limit) applies.
+     */
+    public void resize(String name, Integer coreSize, Integer maxSize) {
+        AsyncTaskExecutor executor = get(name);
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            ThreadPoolExecutor threads = pool.getThreadPoolExecutor();
+            int core = coreSize == null ? threads.getCorePoolSize() : coreSize;
+            int max = maxSize == null ? threads.getMaximumPoolSize() : maxSize;
+            if (core < 0 || max < 1 || core > max) {
+                throw new IllegalArgumentException("Require 0 <= coreSize <= maxSize and maxSize >= 1");
+            }
+            // The executor rejects a core size above the current max and vice versa, so order the calls
+            if (max >= threads.getCorePoolSize()) {
+                pool.setMaxPoolSize(max);
+                pool.setCorePoolSize(core);
+            } else {
+                pool.setCorePoolSize(core);
+                pool.setMaxPoolSize(max);
+            }
+        } else if (executor instanceof SimpleAsyncTaskExecutor virtual && maxSize != null) {
+            if (maxSize < 1) {
+                throw new IllegalArgumentException("Require maxSize >= 1");
+            }
+            virtual.setConcurrencyLimit(maxSize);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (AsyncTaskExecutor executor : executors.values()) {
+            if (executor instanceof ThreadPoolTaskExecutor pool) {
+                pool.shutdown();
+            } else if (executor instanceof SimpleAsyncTaskExecutor virtual) {
+                virtual.close();
+            }
+        }
+    }
+
+    private static AsyncTaskExecutor threadPoolExecutor(String name, ExecutorProperties.Pool pool,
+                                                        MeterRegistry meterRegistry) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getCoreSize());
+        executor.setMaxPoolSize(pool.getMaxSize());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setKeepAliveSeconds((int) pool.getKeepAlive().toSeconds());
+        executor.setThreadNamePrefix(threadNamePrefix(name));
+        executor.setRejectedExecutionHandler(backpressure(name, pool, meterRegistry));
+        executor.setTaskDecorator(timing(name, meterRegistry));
+
+        // Graceful shutdown
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+
+        executor.initialize();
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+
+    /**
+     * One virtual thread per task. The concurrency limit keeps background work from taking
+     * every database connection now that there is no pool size to bound it.
+     */
+    private static AsyncTaskExecutor virtualThreadExecutor(String name, ExecutorProperties.Pool pool,
+                                                           MeterRegistry meterRegistry) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix(name));
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(pool.getMaxSize());
+        executor.setTaskDecorator(timing(name, meterRegistry));
+        executor.setTaskTerminationTimeout(60_000);
+        return executor;
+    }
+
+    private static String threadNamePrefix(String name) {
+        return "VolunteerService-" + name + "-";
+    }
+
+    /**
+     * Runs the task in the caller, or waits for queue space, instead of rejecting straight away.
+     */
+    private static RejectedExecutionHandler backpressure(String name, ExecutorProperties.Pool pool,
+                                                         MeterRegistry meterRegistry) {
+        Counter saturated = Counter.builder("volunteer.executor.backpressure")
+                .description("Tasks submitted while the pool and its queue were full")
+                .tag("name", name)
+                .tag("policy", pool.getBackpressure().name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry);
+        if (pool.getBackpressure() == Backpressure.BLOCK) {
+            long timeoutNanos = pool.getBlockTimeout().toNanos();
+            return (task, executor) -> {
+                saturated.increment();
+                try {
+                    if (!executor.isShutdown() && executor.getQueue().offer(task, timeoutNanos, TimeUnit.NANOSECONDS)) {
+                        return;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new RejectedExecutionException("Executor " + name + " is saturated");
+            };
+        }
+        return (task, executor) -> {
+            saturated.increment();
+            if (executor.isShutdown()) {
+                throw new RejectedExecutionException("Executor " + name + " is shut down");
+            }
+            task.run();
+        };
+    }
+
+    /**
+     * Records how long each task waited in the queue and how long it ran.
+     */
+    private static TaskDecorator timing(String name, MeterRegistry meterRegistry) {
+        Timer waitTimer = Timer.builder("volunteer.executor.wait")
+                .description("Time tasks spent queued before starting")
+                .tag("name", name)
+                .register(meterRegistry);
+        Timer runTimer = Timer.builder("volunteer.executor.run")
+                .description("Time tasks spent running")
+                .tag("name", name)
+                .register(meterRegistry);
+        return task -> {
+            long submitted = System.nanoTime();
+            return () -> {
+                long started = System.nanoTime();
+                waitTimer.record(started - submitted, TimeUnit.NANOSECONDS);
+                try {
+                    task.run();
+                } finally {
+                    runTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                }
+            };
+        };
+    }
+}
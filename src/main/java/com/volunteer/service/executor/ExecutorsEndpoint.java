@@ -0,0 +1,45 @@
+package com.volunteer.service.executor;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+/**
+ * Actuator endpoint ({@code /actuator/executors}) showing the named pools and resizing them at runtime.
+ * A POST to {@code /actuator/executors/{name}} with {@code coreSize} and/or {@code maxSize} applies new limits
+ * until the next restart.
+ */
+@Endpoint(id = "executors")
+public class ExecutorsEndpoint {
+
+    private final ExecutorPools pools;
+
+    public ExecutorsEndpoint(ExecutorPools pools) {
+        this.pools = pools;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> executors() {
+        Map<String, Map<String, Object>> result = new LinkedHashMap<>();
+        for (String name : pools.names()) {
+            result.put(name, pools.describe(name));
+        }
+        return result;
+    }
+
+    @ReadOperation
+    public Map<String, Object> executor(@Selector String name) {
+        return pools.describe(name);
+    }
+
+    @WriteOperation
+    public Map<String, Object> resize(@Selector String name, @Nullable Integer coreSize, @Nullable Integer maxSize) {
+        pools.resize(name, coreSize, maxSize);
+        return pools.describe(name);
+    }
+}
@@ -0,0 +1,21 @@
+package com.volunteer.service.importer;
+
+import java.util.List;
+
+/**
+ * One parsed row of an import file.
+ * Rows that could not be parsed carry an {@code error} and no values.
+ *
+ * @param row 1-based data row number (the CSV header is not counted)
+ * @param skills null when the file does not provide the column, so existing values are kept
+ * @param interests null when the file does not provide the column, so existing values are kept
+ * @param availability normalised JSON, or null
+ */
+public record ImportRow(long row, String name, String email, String phoneNumber, String location,
+                        Double latitude, Double longitude, List<String> skills, List<String> interests,
+                        String availability, Boolean isActive, String error) {
+
+    static ImportRow rejected(long row, String error) {
+        return new ImportRow(row, null, null, null, null, null, null, null, null, null, null, error);
+    }
+}
@@ -0,0 +1,296 @@
+package com.volunteer.service.importer;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.postgresql.PGConnection;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.volunteer.service.model.Volunteer;
+
+/**
+ * Writes validated volunteers to the database in bulk, upserting on email.
+ *
+ * On PostgreSQL the batch is streamed with {@code COPY FROM STDIN} into temporary
+ * staging tables and merged with a single {@code INSERT ... ON CONFLICT (email)}.
+ * Other databases (H2 in development) fall back to batched JDBC inserts and updates.
+ * Skills and interests are replaced only for rows that provide them.
+ * Ids of new rows are taken from {@code volunteers_id_seq} in blocks of
+ * {@link Volunteer#ID_ALLOCATION_SIZE}, one sequence call per block, like Hibernate's pooled-lo optimizer.
+ * Must be called inside a transaction.
+ */
+@Component
+public class VolunteerBulkWriter {
+
+    private static final String CREATE_STAGING =
+            "CREATE TEMP TABLE volunteer_import (" +
+            "id BIGINT NOT NULL, email VARCHAR(100) PRIMARY KEY, name VARCHAR(100), phone_number VARCHAR(20), location VARCHAR(255), " +
+            "latitude DECIMAL(10, 8), longitude DECIMAL(11, 8), availability TEXT, is_active BOOLEAN, " +
+            "replace_skills BOOLEAN, replace_interests BOOLEAN) ON COMMIT DROP";
+    private static final String CREATE_VALUE_STAGING =
+            "CREATE TEMP TABLE volunteer_import_value (" +
+            "email VARCHAR(100), kind CHAR(1), value VARCHAR(100)) ON COMMIT DROP";
+    private static final String COPY_STAGING =
+            "COPY volunteer_import (id, email, name, phone_number, location, latitude, longitude, availability, " +
+            "is_active, replace_skills, replace_interests) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_VALUE_STAGING =
+            "COPY volunteer_import_value (email, kind, value) FROM STDIN WITH (FORMAT csv)";
+
+    // Existing volunteers are staged with their current id, which ON CONFLICT leaves unused.
+    // xmax = 0 only for rows this statement inserted, which separates inserts from updates
+    private static final String UPSERT_FROM_STAGING =
+            "INSERT INTO volunteers (id, name, email, phone_number, location, latitude, longitude, availability, " +
+            "is_active, collections_migrated, created_at, updated_at) " +
+            "SELECT id, name, email, phone_number, location, latitude, longitude, availability, " +
+            "COALESCE(is_active, true), true, ?, ? FROM volunteer_import " +
+            "ON CONFLICT (email) DO UPDATE SET name = EXCLUDED.name, phone_number = EXCLUDED.phone_number, " +
+            "location = EXCLUDED.location, latitude = EXCLUDED.latitude, longitude = EXCLUDED.longitude, " +
+            "availability = EXCLUDED.availability, is_active = EXCLUDED.is_active, updated_at = EXCLUDED.updated_at, " +
+            "version = volunteers.version + 1 " +
+            "RETURNING id, email, version, (xmax = 0) AS inserted";
+    private static final String REPLACE_SKILLS =
+            "DELETE FROM volunteer_skills WHERE volunteer_id IN (SELECT v.id FROM volunteers v " +
+            "JOIN volunteer_import i ON i.email = v.email WHERE i.replace_skills)";
+    private static final String REPLACE_INTERESTS =
+            "DELETE FROM volunteer_interests WHERE volunteer_id IN (SELECT v.id FROM volunteers v " +
+            "JOIN volunteer_import i ON i.email = v.email WHERE i.replace_interests)";
+    private static final String INSERT_STAGED_SKILLS =
+            "INSERT INTO volunteer_skills (volunteer_id, skill) SELECT DISTINCT v.id, x.value " +
+            "FROM volunteer_import_value x JOIN volunteers v ON v.email = x.email WHERE x.kind = 'S'";
+    private static final String INSERT_STAGED_INTERESTS =
+            "INSERT INTO volunteer_interests (volunteer_id, interest) SELECT DISTINCT v.id, x.value " +
+            "FROM volunteer_import_value x JOIN volunteers v ON v.email = x.email WHERE x.kind = 'I'";
+
+    private static final String SELECT_ROWS =
+            "SELECT id, email, version FROM volunteers WHERE email IN (:emails)";
+    // Ids and versions are always set explicitly; schemas generated by Hibernate have no column defaults
+    private static final String INSERT_VOLUNTEER =
+            "INSERT INTO volunteers (id, name, email, phone_number, location, latitude, longitude, availability, " +
+            "is_active, collections_migrated, created_at, updated_at, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, true, ?, ?, 0)";
+    private static final String UPDATE_VOLUNTEER =
+            "UPDATE volunteers SET name = ?, phone_number = ?, location = ?, latitude = ?, longitude = ?, " +
+            "availability = ?, is_active = ?, updated_at = ?, version = version + 1 WHERE email = ?";
+    private static final String DELETE_SKILLS = "DELETE FROM volunteer_skills WHERE volunteer_id = ?";
+    private static final String DELETE_INTERESTS = "DELETE FROM volunteer_interests WHERE volunteer_id = ?";
+    private static final String INSERT_SKILL = "INSERT INTO volunteer_skills (volunteer_id, skill) VALUES (?, ?)";
+    private static final String INSERT_INTEREST = "INSERT INTO volunteer_interests (volunteer_id, interest) VALUES (?, ?)";
+
+    // One row per id block; each value v reserves v .. v + ID_ALLOCATION_SIZE - 1
+    private static final String NEXT_ID_BLOCKS_POSTGRES =
+            "SELECT nextval('volunteers_id_seq') FROM generate_series(1, ?)";
+    private static final String NEXT_ID_BLOCKS =
+            "SELECT NEXT VALUE FOR volunteers_id_seq FROM SYSTEM_RANGE(1, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public VolunteerBulkWriter(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+    }
+
+    /**
+     * Outcome of one batch. Ids are assigned to the written volunteers.
+     */
+    public record Result(int inserted, List<Long> updatedIds) {
+    }
+
+    private record StoredRow(long id, long version) {
+    }
+
+    /**
+     * Upsert the volunteers, keyed by email, and set their ids and versions.
+     * Emails must be unique within the batch; a null skills or interests set keeps the stored values.
+     */
+    public Result upsert(List<Volunteer> volunteers, LocalDateTime now) {
+        if (volunteers.isEmpty()) {
+            return new Result(0, List.of());
+        }
+        return jdbcTemplate.execute((ConnectionCallback<Result>) connection -> {
+            if (connection.isWrapperFor(PGConnection.class)) {
+                return copyUpsert(connection, volunteers, now);
+            }
+            return batchUpsert(volunteers, now);
+        });
+    }
+
+    private Result copyUpsert(Connection connection, List<Volunteer> volunteers, LocalDateTime now) throws SQLException {
+        Map<String, StoredRow> existing = selectRows(volunteers);
+        Iterator<Long> newIds = allocateIds(volunteers.size() - existing.size(), NEXT_ID_BLOCKS_POSTGRES).iterator();
+        StringBuilder rows = new StringBuilder(volunteers.size() * 128);
+        StringBuilder values = new StringBuilder();
+        for (Volunteer volunteer : volunteers) {
+            StoredRow stored = existing.get(volunteer.getEmail());
+            appendCsv(rows, stored != null ? stored.id() : newIds.next(), volunteer.getEmail(), volunteer.getName(), volunteer.getPhoneNumber(),
+                    volunteer.getLocation(), volunteer.getLatitude(), volunteer.getLongitude(),
+                    volunteer.getAvailability(), volunteer.getIsActive(),
+                    volunteer.getSkills() != null, volunteer.getInterests() != null);
+            if (volunteer.getSkills() != null) {
+                volunteer.getSkills().forEach(skill -> appendCsv(values, volunteer.getEmail(), "S", skill));
+            }
+            if (volunteer.getInterests() != null) {
+                volunteer.getInterests().forEach(interest -> appendCsv(values, volunteer.getEmail(), "I", interest));
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_STAGING);
+            statement.execute(CREATE_VALUE_STAGING);
+        }
+        try {
+            PGConnection pgConnection = connection.unwrap(PGConnection.class);
+            pgConnection.getCopyAPI().copyIn(COPY_STAGING, new StringReader(rows.toString()));
+            pgConnection.getCopyAPI().copyIn(COPY_VALUE_STAGING, new StringReader(values.toString()));
+        } catch (IOException e) {
+            throw new DataAccessResourceFailureException("COPY into import staging table failed", e);
+        }
+
+        Map<String, StoredRow> written = new HashMap<>();
+        int inserted = 0;
+        List<Long> updatedIds = new ArrayList<>();
+        try (PreparedStatement upsert = connection.prepareStatement(UPSERT_FROM_STAGING)) {
+            Timestamp timestamp = Timestamp.valueOf(now);
+            upsert.setTimestamp(1, timestamp);
+            upsert.setTimestamp(2, timestamp);
+            try (ResultSet rs = upsert.executeQuery()) {
+                while (rs.next()) {
+                    written.put(rs.getString("email"), new StoredRow(rs.getLong("id"), rs.getLong("version")));
+                    if (rs.getBoolean("inserted")) {
+                        inserted++;
+                    } else {
+                        updatedIds.add(rs.getLong("id"));
+                    }
+                }
+            }
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(REPLACE_SKILLS);
+            statement.executeUpdate(REPLACE_INTERESTS);
+            statement.executeUpdate(INSERT_STAGED_SKILLS);
+            statement.executeUpdate(INSERT_STAGED_INTERESTS);
+        }
+        volunteers.forEach(volunteer -> setStored(volunteer, written.get(volunteer.getEmail())));
+        return new Result(inserted, updatedIds);
+    }
+
+    private Result batchUpsert(List<Volunteer> volunteers, LocalDateTime now) {
+        Set<String> existing = new HashSet<>(selectRows(volunteers).keySet());
+        Iterator<Long> newIds = allocateIds(volunteers.size() - existing.size(), NEXT_ID_BLOCKS).iterator();
+
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> updates = new ArrayList<>();
+        for (Volunteer volunteer : volunteers) {
+            boolean active = volunteer.getIsActive() == null || volunteer.getIsActive();
+            if (existing.contains(volunteer.getEmail())) {
+                updates.add(new Object[]{volunteer.getName(), volunteer.getPhoneNumber(), volunteer.getLocation(),
+                        volunteer.getLatitude(), volunteer.getLongitude(), volunteer.getAvailability(), active,
+                        now, volunteer.getEmail()});
+            } else {
+                inserts.add(new Object[]{newIds.next(), volunteer.getName(), volunteer.getEmail(), volunteer.getPhoneNumber(),
+                        volunteer.getLocation(), volunteer.getLatitude(), volunteer.getLongitude(),
+                        volunteer.getAvailability(), active, now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_VOLUNTEER, inserts);
+        jdbcTemplate.batchUpdate(UPDATE_VOLUNTEER, updates);
+
+        Map<String, StoredRow> written = selectRows(volunteers);
+        List<Object[]> skillDeletes = new ArrayList<>();
+        List<Object[]> interestDeletes = new ArrayList<>();
+        List<Object[]> skills = new ArrayList<>();
+        List<Object[]> interests = new ArrayList<>();
+        List<Long> updatedIds = new ArrayList<>();
+        for (Volunteer volunteer : volunteers) {
+            setStored(volunteer, written.get(volunteer.getEmail()));
+            Long id = volunteer.getId();
+            if (existing.contains(volunteer.getEmail())) {
+                updatedIds.add(id);
+            }
+            if (volunteer.getSkills() != null) {
+                skillDeletes.add(new Object[]{id});
+                volunteer.getSkills().forEach(skill -> skills.add(new Object[]{id, skill}));
+            }
+            if (volunteer.getInterests() != null) {
+                interestDeletes.add(new Object[]{id});
+                volunteer.getInterests().forEach(interest -> interests.add(new Object[]{id, interest}));
+            }
+        }
+        jdbcTemplate.batchUpdate(DELETE_SKILLS, skillDeletes);
+        jdbcTemplate.batchUpdate(DELETE_INTERESTS, interestDeletes);
+        jdbcTemplate.batchUpdate(INSERT_SKILL, skills);
+        jdbcTemplate.batchUpdate(INSERT_INTEREST, interests);
+        return new Result(inserts.size(), updatedIds);
+    }
+
+    /**
+     * Ids for the given number of new rows, taking whole blocks from the sequence.
+     * Ids left over in the last block are not reused.
+     */
+    private List<Long> allocateIds(int count, String nextBlocksSql) {
+        List<Long> ids = new ArrayList<>(count);
+        if (count <= 0) {
+            return ids;
+        }
+        int blocks = (count + Volunteer.ID_ALLOCATION_SIZE - 1) / Volunteer.ID_ALLOCATION_SIZE;
+        for (Long low : jdbcTemplate.queryForList(nextBlocksSql, Long.class, blocks)) {
+            for (int i = 0; i < Volunteer.ID_ALLOCATION_SIZE && ids.size() < count; i++) {
+                ids.add(low + i);
+            }
+        }
+        return ids;
+    }
+
+    private Map<String, StoredRow> selectRows(Collection<Volunteer> volunteers) {
+        List<String> emails = new ArrayList<>(volunteers.size());
+        volunteers.forEach(volunteer -> emails.add(volunteer.getEmail()));
+        Map<String, StoredRow> rows = new HashMap<>();
+        namedParameterJdbcTemplate.query(SELECT_ROWS, Map.of("emails", emails), (RowCallbackHandler) rs ->
+                rows.put(rs.getString("email"), new StoredRow(rs.getLong("id"), rs.getLong("version"))));
+        return rows;
+    }
+
+    /**
+     * Give the written volunteer its stored id and version, so index snapshots are not taken as stale.
+     */
+    private static void setStored(Volunteer volunteer, StoredRow stored) {
+        volunteer.setId(stored.id());
+        volunteer.setVersion(stored.version());
+    }
+
+    /**
+     * Append one CSV record in the format expected by COPY: nulls are unquoted empty fields,
+     * every other value is quoted so empty strings stay distinct from null.
+     */
+    private static void appendCsv(StringBuilder out, Object... values) {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.append(',');
+            }
+            if (values[i] != null) {
+                out.append('"').append(values[i].toString().replace("\"", "\"\"")).append('"');
+            }
+        }
+        out.append('\n');
+    }
+}
@@ -0,0 +1,268 @@
+package com.volunteer.service.importer;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Streaming reader for volunteer import files, one row at a time.
+ *
+ * Supports NDJSON (one object per line) and CSV with a header row, using the same
+ * field names as the export. In CSV, skills and interests are {@code ;}-separated and
+ * availability is a JSON string. A malformed row is returned as rejected and reading
+ * continues with the next one.
+ */
+public abstract class VolunteerImportReader implements Closeable {
+
+    protected final BufferedReader reader;
+    protected final ObjectMapper objectMapper;
+    protected long row;
+
+    protected VolunteerImportReader(InputStream in, ObjectMapper objectMapper) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.objectMapper = objectMapper;
+    }
+
+    public static VolunteerImportReader csv(InputStream in, ObjectMapper objectMapper) {
+        return new Csv(in, objectMapper);
+    }
+
+    public static VolunteerImportReader ndjson(InputStream in, ObjectMapper objectMapper) {
+        return new Ndjson(in, objectMapper);
+    }
+
+    /**
+     * Next row, or null at the end of the input.
+     */
+    public abstract ImportRow next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    protected String normaliseAvailability(String json) throws JsonProcessingException {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        JsonNode node = objectMapper.readTree(json);
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("availability must be a JSON object");
+        }
+        return node.toString();
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static Double parseCoordinate(String name, String value) {
+        value = blankToNull(value);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(name + " is not a number: " + value);
+        }
+    }
+
+    private static Boolean parseBoolean(String name, String value) {
+        value = blankToNull(value);
+        if (value == null) {
+            return null;
+        }
+        if ("true".equalsIgnoreCase(value)) {
+            return Boolean.TRUE;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException(name + " must be true or false: " + value);
+    }
+
+    private static final class Ndjson extends VolunteerImportReader {
+
+        Ndjson(InputStream in, ObjectMapper objectMapper) {
+            super(in, objectMapper);
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+            row++;
+            try {
+                JsonNode node = objectMapper.readTree(line);
+                if (!node.isObject()) {
+                    return ImportRow.rejected(row, "Row is not a JSON object");
+                }
+                JsonNode availability = node.get("availability");
+                return new ImportRow(row,
+                        text(node, "name"),
+                        text(node, "email"),
+                        text(node, "phoneNumber"),
+                        text(node, "location"),
+                        parseCoordinate("latitude", text(node, "latitude")),
+                        parseCoordinate("longitude", text(node, "longitude")),
+                        values(node, "skills"),
+                        values(node, "interests"),
+                        availability == null || availability.isNull() ? null
+                                : availability.isTextual() ? normaliseAvailability(availability.asText())
+                                : normaliseAvailability(availability.toString()),
+                        parseBoolean("isActive", text(node, "isActive")),
+                        null);
+            } catch (JsonProcessingException e) {
+                return ImportRow.rejected(row, "Malformed JSON: " + e.getOriginalMessage());
+            } catch (IllegalArgumentException e) {
+                return ImportRow.rejected(row, e.getMessage());
+            }
+        }
+
+        private static String text(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            return value == null || value.isNull() ? null : blankToNull(value.asText());
+        }
+
+        private static List<String> values(JsonNode node, String field) {
+            JsonNode value = node.get(field);
+            if (value == null || value.isNull()) {
+                return null;
+            }
+            if (value.isTextual()) {
+                return split(value.asText());
+            }
+            if (!value.isArray()) {
+                throw new IllegalArgumentException(field + " must be an array of strings");
+            }
+            List<String> values = new ArrayList<>(value.size());
+            value.forEach(element -> values.add(element.asText()));
+            return values;
+        }
+    }
+
+    private static final class Csv extends VolunteerImportReader {
+
+        private Map<String, Integer> columns;
+
+        Csv(InputStream in, ObjectMapper objectMapper) {
+            super(in, objectMapper);
+        }
+
+        @Override
+        public ImportRow next() throws IOException {
+            if (columns == null) {
+                List<String> header = readRecord();
+                if (header == null) {
+                    return null;
+                }
+                columns = new HashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+                }
+                if (!columns.containsKey("name") || !columns.containsKey("email")) {
+                    throw new IllegalArgumentException("CSV header must contain name and email columns");
+                }
+            }
+
+            List<String> record;
+            do {
+                record = readRecord();
+                if (record == null) {
+                    return null;
+                }
+            } while (record.size() == 1 && record.get(0).isBlank());
+            row++;
+            try {
+                return new ImportRow(row,
+                        blankToNull(cell(record, "name")),
+                        blankToNull(cell(record, "email")),
+                        blankToNull(cell(record, "phonenumber")),
+                        blankToNull(cell(record, "location")),
+                        parseCoordinate("latitude", cell(record, "latitude")),
+                        parseCoordinate("longitude", cell(record, "longitude")),
+                        columns.containsKey("skills") ? split(cell(record, "skills")) : null,
+                        columns.containsKey("interests") ? split(cell(record, "interests")) : null,
+                        normaliseAvailability(cell(record, "availability")),
+                        parseBoolean("isActive", cell(record, "isactive")),
+                        null);
+            } catch (JsonProcessingException e) {
+                return ImportRow.rejected(row, "Malformed availability JSON: " + e.getOriginalMessage());
+            } catch (IllegalArgumentException e) {
+                return ImportRow.rejected(row, e.getMessage());
+            }
+        }
+
+        private String cell(List<String> record, String column) {
+            Integer index = columns.get(column);
+            return index == null || index >= record.size() ? null : record.get(index);
+        }
+
+        /**
+         * Read one RFC 4180 record; quoted fields may contain separators, quotes and line breaks.
+         */
+        private List<String> readRecord() throws IOException {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int c = reader.read();
+            if (c == -1) {
+                return null;
+            }
+            while (c != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        int next = reader.read();
+                        if (next == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            reader.reset();
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+                c = reader.read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+
+    private static List<String> split(String value) {
+        if (value == null || value.isBlank()) {
+            return List.of();
+        }
+        return Arrays.asList(value.split(";"));
+    }
+}
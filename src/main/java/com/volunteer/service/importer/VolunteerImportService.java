@@ -0,0 +1,282 @@
+package com.volunteer.service.importer;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.volunteer.service.cache.VolunteerCacheInvalidator;
+import com.volunteer.service.cache.VolunteerCacheKeys;
+import com.volunteer.service.dto.VolunteerImportReportDTO;
+import com.volunteer.service.dto.VolunteerImportReportDTO.RejectedRow;
+import com.volunteer.service.event.VolunteerEventOutbox;
+import com.volunteer.service.event.VolunteerEventType;
+import com.volunteer.service.exception.MigrationInProgressException;
+import com.volunteer.service.model.Volunteer;
+import com.volunteer.service.repository.VolunteerRepository;
+import com.volunteer.service.search.VolunteerIndexSync;
+import com.volunteer.service.service.LegacyCollectionBackfill;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Service for bulk importing volunteers from a streamed CSV or NDJSON file.
+ *
+ * Rows are validated against the bean-validation constraints of {@link Volunteer}
+ * as they are read and written in batches by {@link VolunteerBulkWriter}, one
+ * transaction per batch, so memory use is bounded by the batch size. Existing
+ * volunteers are matched by email and updated. A failing batch rejects only its
+ * own rows; earlier batches stay committed.
+ */
+@Service
+public class VolunteerImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(VolunteerImportService.class);
+
+    private static final int MAX_VALUE_LENGTH = 100;
+
+    private final VolunteerBulkWriter bulkWriter;
+    private final VolunteerRepository volunteerRepository;
+    private final LegacyCollectionBackfill legacyBackfill;
+    private final VolunteerCacheInvalidator cacheInvalidator;
+    private final VolunteerIndexSync indexSync;
+    private final VolunteerEventOutbox eventOutbox;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${volunteer.import.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${volunteer.import.max-reported-rejects:100}")
+    private int maxReportedRejects;
+
+    @Autowired
+    public VolunteerImportService(VolunteerBulkWriter bulkWriter,
+                                  VolunteerRepository volunteerRepository,
+                                  LegacyCollectionBackfill legacyBackfill,
+                                  VolunteerCacheInvalidator cacheInvalidator,
+                                  VolunteerIndexSync indexSync,
+                                  VolunteerEventOutbox eventOutbox,
+                                  Validator validator,
+                                  PlatformTransactionManager transactionManager) {
+        this.bulkWriter = bulkWriter;
+        this.volunteerRepository = volunteerRepository;
+        this.legacyBackfill = legacyBackfill;
+        this.cacheInvalidator = cacheInvalidator;
+        this.indexSync = indexSync;
+        this.eventOutbox = eventOutbox;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Import every row of the reader and report the outcome.
+     */
+    public VolunteerImportReportDTO importVolunteers(VolunteerImportReader reader) throws IOException {
+        if (!legacyBackfill.isComplete()) {
+            // Upserted rows must not be re-copied from the legacy columns afterwards
+            throw new MigrationInProgressException("Legacy data migration is still running, retry the import later");
+        }
+
+        long started = System.nanoTime();
+        VolunteerImportReportDTO report = new VolunteerImportReportDTO();
+        report.setRejects(new ArrayList<>());
+        Map<String, PendingRow> batch = new LinkedHashMap<>();
+        try (reader) {
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                report.setRowsRead(report.getRowsRead() + 1);
+                if (row.error() != null) {
+                    reject(report, row.row(), null, row.error());
+                    continue;
+                }
+                Volunteer volunteer = toVolunteer(row);
+                String error = validate(volunteer);
+                if (error != null) {
+                    reject(report, row.row(), row.email(), error);
+                    continue;
+                }
+                // Last row wins; ON CONFLICT cannot touch the same email twice in one statement
+                if (batch.put(volunteer.getEmail(), new PendingRow(row.row(), volunteer)) != null) {
+                    report.setDuplicates(report.getDuplicates() + 1);
+                }
+                if (batch.size() >= batchSize) {
+                    write(batch, report);
+                    batch.clear();
+                }
+            }
+            write(batch, report);
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        report.setDurationMs(elapsedNanos / 1_000_000);
+        long written = report.getInserted() + report.getUpdated();
+        report.setRowsPerSecond(elapsedNanos == 0 ? 0 : written * 1_000_000_000.0 / elapsedNanos);
+        log.info("Volunteer import finished: {} rows read, {} inserted, {} updated, {} rejected in {} ms ({} rows/s)",
+                report.getRowsRead(), report.getInserted(), report.getUpdated(), report.getRejected(),
+                report.getDurationMs(), Math.round(report.getRowsPerSecond()));
+        return report;
+    }
+
+    private void write(Map<String, PendingRow> batch, VolunteerImportReportDTO report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Volunteer> volunteers = new ArrayList<>(batch.size());
+        batch.values().forEach(pending -> volunteers.add(pending.volunteer()));
+        try {
+            VolunteerBulkWriter.Result result = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                VolunteerBulkWriter.Result written = bulkWriter.upsert(volunteers, now);
+                recordEvents(volunteers, written);
+                syncAfterCommit(volunteers, written, now);
+                return written;
+            });
+            report.setInserted(report.getInserted() + result.inserted());
+            report.setUpdated(report.getUpdated() + result.updatedIds().size());
+        } catch (DataAccessException | TransactionException e) {
+            String reason = "Batch failed: " + e.getMostSpecificCause().getMessage();
+            log.warn("Volunteer import batch of {} rows failed: {}", batch.size(), e.getMessage());
+            batch.values().forEach(pending ->
+                    reject(report, pending.row(), pending.volunteer().getEmail(), reason));
+        }
+    }
+
+    /**
+     * Record created and updated events for the written rows in the batch transaction.
+     */
+    private void recordEvents(List<Volunteer> volunteers, VolunteerBulkWriter.Result result) {
+        Set<Long> updated = new HashSet<>(result.updatedIds());
+        List<Long> created = new ArrayList<>(volunteers.size() - updated.size());
+        for (Volunteer volunteer : volunteers) {
+            if (!updated.contains(volunteer.getId())) {
+                created.add(volunteer.getId());
+            }
+        }
+        eventOutbox.recordAll(VolunteerEventType.VOLUNTEER_CREATED, created);
+        eventOutbox.recordAll(VolunteerEventType.VOLUNTEER_UPDATED, result.updatedIds());
+    }
+
+    /**
+     * Register cache eviction and search index updates for the written rows. Created rows
+     * are announced too, so other nodes add them to their indexes.
+     * Updated rows that kept their stored skills or interests are re-read so the index sees the full profile.
+     */
+    private void syncAfterCommit(List<Volunteer> volunteers, VolunteerBulkWriter.Result result, LocalDateTime now) {
+        Set<Long> updated = new HashSet<>(result.updatedIds());
+        List<Long> reload = new ArrayList<>();
+        List<Long> created = new ArrayList<>(volunteers.size() - updated.size());
+        for (Volunteer volunteer : volunteers) {
+            volunteer.setUpdatedAt(now);
+            if (!updated.contains(volunteer.getId())) {
+                created.add(volunteer.getId());
+            }
+            boolean partial = volunteer.getSkills() == null || volunteer.getInterests() == null;
+            if (partial && updated.contains(volunteer.getId())) {
+                reload.add(volunteer.getId());
+                continue;
+            }
+            if (volunteer.getSkills() == null) {
+                volunteer.setSkills(new LinkedHashSet<>());
+            }
+            if (volunteer.getInterests() == null) {
+                volunteer.setInterests(new LinkedHashSet<>());
+            }
+            indexSync.indexAfterCommit(volunteer);
+        }
+        if (!reload.isEmpty()) {
+            volunteerRepository.findAllById(reload).forEach(indexSync::indexAfterCommit);
+        }
+        cacheInvalidator.invalidateAll(result.updatedIds());
+        if (!created.isEmpty()) {
+            cacheInvalidator.invalidate(VolunteerCacheKeys.createdKeys(created));
+        }
+    }
+
+    private static Volunteer toVolunteer(ImportRow row) {
+        Volunteer volunteer = new Volunteer(row.name(), row.email());
+        volunteer.setPhoneNumber(row.phoneNumber());
+        volunteer.setLocation(row.location());
+        volunteer.setLatitude(row.latitude());
+        volunteer.setLongitude(row.longitude());
+        volunteer.setSkills(normalise(row.skills()));
+        volunteer.setInterests(normalise(row.interests()));
+        volunteer.setAvailability(row.availability());
+        volunteer.setIsActive(row.isActive() == null ? Boolean.TRUE : row.isActive());
+        return volunteer;
+    }
+
+    /**
+     * Trimmed, de-duplicated values; null stays null so stored values are kept.
+     */
+    private static Set<String> normalise(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        Set<String> normalised = new LinkedHashSet<>();
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                normalised.add(value.trim());
+            }
+        }
+        return normalised;
+    }
+
+    /**
+     * Check the entity constraints plus the limits of columns the entity does not annotate.
+     * Returns null when the row is valid.
+     */
+    private String validate(Volunteer volunteer) {
+        Set<ConstraintViolation<Volunteer>> violations = validator.validate(volunteer);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+        if (volunteer.getLatitude() != null && Math.abs(volunteer.getLatitude()) > 90) {
+            return "latitude: must be between -90 and 90";
+        }
+        if (volunteer.getLongitude() != null && Math.abs(volunteer.getLongitude()) > 180) {
+            return "longitude: must be between -180 and 180";
+        }
+        if (tooLong(volunteer.getSkills())) {
+            return "skills: values must be at most " + MAX_VALUE_LENGTH + " characters";
+        }
+        if (tooLong(volunteer.getInterests())) {
+            return "interests: values must be at most " + MAX_VALUE_LENGTH + " characters";
+        }
+        return null;
+    }
+
+    private static boolean tooLong(Set<String> values) {
+        return values != null && values.stream().anyMatch(value -> value.length() > MAX_VALUE_LENGTH);
+    }
+
+    private void reject(VolunteerImportReportDTO report, long row, String email, String reason) {
+        report.setRejected(report.getRejected() + 1);
+        if (report.getRejects().size() < maxReportedRejects) {
+            report.getRejects().add(new RejectedRow(row, email, reason));
+        }
+    }
+
+    private record PendingRow(long row, Volunteer volunteer) {
+    }
+}
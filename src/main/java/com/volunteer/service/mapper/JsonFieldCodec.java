@@ -0,0 +1,126 @@
+package com.volunteer.service.mapper;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.volunteer.service.dto.VolunteerResponseDTO.AvailabilityDTO;
+import com.volunteer.service.dto.VolunteerUpdateDTO.AvailabilityUpdateDTO;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Converts the JSON-in-TEXT columns to and from their DTO types.
+ *
+ * Readers and writers are built once from the application {@link ObjectMapper} and are
+ * thread-safe, so a conversion does no type resolution or serializer lookup per call.
+ * Used by {@link VolunteerMapper} for the availability field. Parse time is recorded as the
+ * {@code json.parse} phase of {@code volunteer.phase}; malformed values, which read as null,
+ * are counted in {@code volunteer.json.parse.failures}.
+ */
+@Component
+public class JsonFieldCodec {
+
+    private static final Logger log = LoggerFactory.getLogger(JsonFieldCodec.class);
+
+    private final ObjectReader availabilityReader;
+    private final ObjectWriter availabilityWriter;
+    private final ObjectReader availabilityUpdateReader;
+    private final ObjectWriter availabilityUpdateWriter;
+    private final ObjectReader stringListReader;
+    private final Timer parseTimer;
+    private final Counter parseFailures;
+
+    public JsonFieldCodec(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.availabilityReader = objectMapper.readerFor(AvailabilityDTO.class);
+        this.availabilityWriter = objectMapper.writerFor(AvailabilityDTO.class);
+        this.availabilityUpdateReader = objectMapper.readerFor(AvailabilityUpdateDTO.class);
+        this.availabilityUpdateWriter = objectMapper.writerFor(AvailabilityUpdateDTO.class);
+        this.stringListReader = objectMapper.readerFor(new TypeReference<List<String>>() {});
+        this.parseTimer = Timer.builder("volunteer.phase")
+                .description("Time spent in one phase of a volunteer request")
+                .tag("phase", "json.parse")
+                .register(meterRegistry);
+        this.parseFailures = Counter.builder("volunteer.json.parse.failures")
+                .description("Stored JSON values that could not be parsed and were read as empty")
+                .tag("field", "availability")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Parse stored availability. Missing or malformed values read as null.
+     */
+    public AvailabilityDTO readAvailability(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        return read(availabilityReader, json);
+    }
+
+    /**
+     * Parse stored availability in its update form, used as the base of merge patches.
+     * Missing or malformed values read as null.
+     */
+    public AvailabilityUpdateDTO readAvailabilityUpdate(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        return read(availabilityUpdateReader, json);
+    }
+
+    public String writeAvailability(AvailabilityDTO availability) {
+        return write(availabilityWriter, availability);
+    }
+
+    public String writeAvailability(AvailabilityUpdateDTO availability) {
+        return write(availabilityUpdateWriter, availability);
+    }
+
+    /**
+     * Parse a JSON array of strings, as stored in the legacy collection columns.
+     *
+     * @throws JsonProcessingException if the value is not a JSON string array
+     */
+    public List<String> readStringList(String json) throws JsonProcessingException {
+        if (json == null || json.isBlank()) {
+            return Collections.emptyList();
+        }
+        return stringListReader.readValue(json);
+    }
+
+    private <T> T read(ObjectReader reader, String json) {
+        long started = System.nanoTime();
+        try {
+            return reader.readValue(json);
+        } catch (IOException e) {
+            parseFailures.increment();
+            log.debug("Ignoring malformed availability JSON: {}", e.getMessage());
+            return null;
+        } finally {
+            parseTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String write(ObjectWriter writer, Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return writer.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.volunteer.service.mapper;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.mapstruct.AfterMapping;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+import com.volunteer.service.dto.VolunteerResponseDTO;
+import com.volunteer.service.dto.VolunteerUpdateDTO;
+import com.volunteer.service.model.Volunteer;
+
+/**
+ * Compile-time generated mapping between {@link Volunteer} and its DTOs.
+ * Availability JSON goes through the cached readers/writers of {@link JsonFieldCodec}.
+ */
+@Mapper(componentModel = "spring",
+        uses = JsonFieldCodec.class,
+        injectionStrategy = InjectionStrategy.CONSTRUCTOR,
+        unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface VolunteerMapper {
+
+    /**
+     * Build the response DTO. Drive history is stored separately and passed in already split by status.
+     */
+    VolunteerResponseDTO toResponseDTO(Volunteer volunteer, List<String> drivesApplied, List<String> drivesCompleted);
+
+    /**
+     * Entity with the profile fields of a response DTO; drive history is not part of the entity.
+     */
+    @Mapping(target = "collectionsMigrated", ignore = true)
+    Volunteer toEntity(VolunteerResponseDTO dto);
+
+    /**
+     * Current values of the updatable fields, the document a merge patch is applied to.
+     */
+    VolunteerUpdateDTO toUpdateDTO(Volunteer volunteer);
+
+    /**
+     * Apply the non-null fields of an update to a managed volunteer.
+     * Skills and interests are replaced in place so Hibernate only writes the added and removed rows.
+     */
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "email", ignore = true)
+    @Mapping(target = "skills", ignore = true)
+    @Mapping(target = "interests", ignore = true)
+    @Mapping(target = "collectionsMigrated", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateVolunteer(VolunteerUpdateDTO updateDTO, @MappingTarget Volunteer volunteer);
+
+    @AfterMapping
+    default void updateCollections(VolunteerUpdateDTO updateDTO, @MappingTarget Volunteer volunteer) {
+        if (updateDTO.getSkills() != null) {
+            replaceValues(volunteer.getSkills(), updateDTO.getSkills());
+        }
+        if (updateDTO.getInterests() != null) {
+            replaceValues(volunteer.getInterests(), updateDTO.getInterests());
+        }
+    }
+
+    /**
+     * Replace the contents of a mapped collection with the trimmed, non-blank values.
+     */
+    static void replaceValues(Set<String> target, List<String> values) {
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                normalized.add(value.trim());
+            }
+        }
+        target.retainAll(normalized);
+        target.addAll(normalized);
+    }
+}
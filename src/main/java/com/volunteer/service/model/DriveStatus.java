@@ -0,0 +1,9 @@
+package com.volunteer.service.model;
+
+/**
+ * State of a volunteer's involvement in a drive/posting.
+ */
+public enum DriveStatus {
+    APPLIED,
+    COMPLETED
+}
@@ -1,29 +1,50 @@
 package com.volunteer.service.model;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
+import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderBy;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
 /**
- * Entity representing a volunteer with all necessary data in a single table.
+ * Entity representing a volunteer.
+ * Skills and interests live in indexed child tables; drive history is stored
+ * separately in {@link VolunteerDrive}. Updates only write the columns that changed.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "volunteers")
 public class Volunteer {
 
+    /**
+     * Ids reserved by one value of {@code volunteers_id_seq}; must equal its INCREMENT BY (see V4 migration).
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Pooled-lo sequence: ids are allocated in blocks so inserts can be batched.
+    // Bulk SQL writes allocate from the same blocks, see VolunteerBulkWriter.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "volunteer_id")
+    @SequenceGenerator(name = "volunteer_id", sequenceName = "volunteers_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotBlank
@@ -51,24 +72,31 @@ public class Volunteer {
     @Column(name = "longitude")
     private Double longitude;
 
-    @Column(name = "skills", columnDefinition = "TEXT")
-    private String skills; // JSON array of skills
+    @ElementCollection
+    @CollectionTable(name = "volunteer_skills", joinColumns = @JoinColumn(name = "volunteer_id"))
+    @Column(name = "skill", nullable = false, length = 100)
+    @OrderBy
+    @BatchSize(size = 50)
+    private Set<String> skills = new LinkedHashSet<>();
 
-    @Column(name = "interests", columnDefinition = "TEXT")
-    private String interests; // JSON array of interests
+    @ElementCollection
+    @CollectionTable(name = "volunteer_interests", joinColumns = @JoinColumn(name = "volunteer_id"))
+    @Column(name = "interest", nullable = false, length = 100)
+    @OrderBy
+    @BatchSize(size = 50)
+    private Set<String> interests = new LinkedHashSet<>();
 
     @Column(name = "availability", columnDefinition = "TEXT")
     private String availability; // JSON object for availability
 
-    @Column(name = "drives_applied", columnDefinition = "TEXT")
-    private String drivesApplied; // JSON array of drive IDs applied for
-
-    @Column(name = "drives_completed", columnDefinition = "TEXT")
-    private String drivesCompleted; // JSON array of drive IDs completed
-
     @Column(name = "is_active", nullable = false)
     private Boolean isActive = true;
 
+    // Set once the legacy JSON columns have been copied into the child tables.
+    // Only the backfill flips it, so it is never written by entity updates.
+    @Column(name = "collections_migrated", nullable = false, updatable = false)
+    private Boolean collectionsMigrated = true;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -77,6 +105,11 @@ public class Volunteer {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Checked and incremented by every entity update; bulk SQL writes increment it explicitly
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version = 0L;
+
     // Constructors
     public Volunteer() {}
 
@@ -143,19 +176,19 @@ public class Volunteer {
         this.longitude = longitude;
     }
 
-    public String getSkills() {
+    public Set<String> getSkills() {
         return skills;
     }
 
-    public void setSkills(String skills) {
+    public void setSkills(Set<String> skills) {
         this.skills = skills;
     }
 
-    public String getInterests() {
+    public Set<String> getInterests() {
         return interests;
     }
 
-    public void setInterests(String interests) {
+    public void setInterests(Set<String> interests) {
         this.interests = interests;
     }
 
@@ -167,22 +200,6 @@ public class Volunteer {
         this.availability = availability;
     }
 
-    public String getDrivesApplied() {
-        return drivesApplied;
-    }
-
-    public void setDrivesApplied(String drivesApplied) {
-        this.drivesApplied = drivesApplied;
-    }
-
-    public String getDrivesCompleted() {
-        return drivesCompleted;
-    }
-
-    public void setDrivesCompleted(String drivesCompleted) {
-        this.drivesCompleted = drivesCompleted;
-    }
-
     public Boolean getIsActive() {
         return isActive;
     }
@@ -191,6 +208,14 @@ public class Volunteer {
         this.isActive = isActive;
     }
 
+    public Boolean getCollectionsMigrated() {
+        return collectionsMigrated;
+    }
+
+    public void setCollectionsMigrated(Boolean collectionsMigrated) {
+        this.collectionsMigrated = collectionsMigrated;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -206,4 +231,12 @@ public class Volunteer {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
-}
\ No newline at end of file
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+}
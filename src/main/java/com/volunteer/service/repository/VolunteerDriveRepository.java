@@ -0,0 +1,70 @@
+package com.volunteer.service.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.volunteer.service.model.DriveStatus;
+import com.volunteer.service.model.VolunteerDrive;
+
+/**
+ * Repository for VolunteerDrive entities.
+ */
+@Repository
+public interface VolunteerDriveRepository extends JpaRepository<VolunteerDrive, Long> {
+
+    /**
+     * Drive ids of one status for a volunteer, oldest first.
+     */
+    @Query("select d.driveId from VolunteerDrive d where d.volunteerId = :volunteerId and d.status = :status order by d.id")
+    List<String> findDriveIds(@Param("volunteerId") Long volunteerId, @Param("status") DriveStatus status);
+
+    /**
+     * Drives of one status recorded after the given row id, oldest first.
+     * Keyset page served by idx_volunteer_drive_history; only the page's rows are read.
+     */
+    @Query("select d from VolunteerDrive d where d.volunteerId = :volunteerId and d.status = :status "
+            + "and d.id > :afterId order by d.id")
+    List<VolunteerDrive> findPage(@Param("volunteerId") Long volunteerId,
+                                  @Param("status") DriveStatus status,
+                                  @Param("afterId") long afterId,
+                                  Pageable pageable);
+
+    /**
+     * Full drive history of a volunteer, oldest first.
+     */
+    List<VolunteerDrive> findByVolunteerIdOrderById(Long volunteerId);
+
+    /**
+     * Drive history of several volunteers in one query, oldest first.
+     */
+    List<VolunteerDrive> findByVolunteerIdInOrderById(Collection<Long> volunteerIds);
+
+    /**
+     * Append a drive to the history unless it is already recorded with that status.
+     * Returns 1 if a row was added. Callers hold the volunteer's row lock, which makes the
+     * existence check safe against concurrent calls for the same volunteer.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO volunteer_drives (volunteer_id, drive_id, status, created_at) "
+            + "SELECT :volunteerId, :driveId, :status, CURRENT_TIMESTAMP "
+            + "WHERE NOT EXISTS (SELECT 1 FROM volunteer_drives "
+            + "WHERE volunteer_id = :volunteerId AND status = :status AND drive_id = :driveId)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("volunteerId") Long volunteerId,
+                       @Param("driveId") String driveId,
+                       @Param("status") String status);
+
+    /**
+     * Remove the drive history of a volunteer.
+     */
+    @Modifying
+    @Query("delete from VolunteerDrive d where d.volunteerId = :volunteerId")
+    int deleteByVolunteerId(@Param("volunteerId") Long volunteerId);
+}
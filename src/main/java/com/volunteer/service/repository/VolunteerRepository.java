@@ -1,12 +1,24 @@
 package com.volunteer.service.repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.volunteer.service.model.Volunteer;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository for Volunteer entities.
  */
@@ -22,4 +34,54 @@ public interface VolunteerRepository extends JpaRepository<Volunteer, Long> {
      * Check if volunteer exists by email.
      */
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * Fetch only the version, used to validate ETags without loading the row.
+     */
+    @Query("select v.version from Volunteer v where v.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Lock the volunteer row for the rest of the transaction without loading the entity.
+     * Empty if the volunteer does not exist.
+     */
+    @Query(value = "SELECT id FROM volunteers WHERE id = :id FOR UPDATE", nativeQuery = true)
+    Optional<Long> lockById(@Param("id") Long id);
+
+    /**
+     * Set the last-modified timestamp and increment the version without loading the entity.
+     */
+    @Modifying
+    @Query("update Volunteer v set v.updatedAt = :updatedAt, v.version = v.version + 1 where v.id = :id")
+    int touch(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * Ids of volunteers with the given skill. Served by idx_volunteer_skill_value.
+     */
+    @Query("select v.id from Volunteer v join v.skills s where s = :skill")
+    List<Long> findIdsBySkill(@Param("skill") String skill);
+
+    /**
+     * Ids of volunteers with the given interest. Served by idx_volunteer_interest_value.
+     */
+    @Query("select v.id from Volunteer v join v.interests i where i = :interest")
+    List<Long> findIdsByInterest(@Param("interest") String interest);
+
+    /**
+     * Keyset page of volunteers ordered by id, for full scans that must not hold the whole table.
+     */
+    @Query("select v from Volunteer v where v.id > :afterId order by v.id")
+    List<Volunteer> findPageAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Forward-only cursor over all volunteers ordered by id, for exports.
+     * Must be consumed inside a transaction and closed; rows are fetched from the server in chunks.
+     */
+    @Query("select v from Volunteer v order by v.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    Stream<Volunteer> streamAllOrderById();
+}
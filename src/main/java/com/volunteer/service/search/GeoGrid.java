@@ -0,0 +1,85 @@
+package com.volunteer.service.search;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Fixed latitude/longitude grid used as the spatial index for nearby queries.
+ *
+ * Each cell spans {@link #CELL_DEGREES} in both directions (about 11 km north-south).
+ * A radius query visits every cell intersecting the bounding box of the circle, with
+ * longitudes wrapping at the antimeridian; exact distances are checked afterwards.
+ */
+final class GeoGrid {
+
+    static final double CELL_DEGREES = 0.1;
+
+    private static final int ROWS = (int) Math.round(180 / CELL_DEGREES);
+    private static final int COLUMNS = (int) Math.round(360 / CELL_DEGREES);
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180;
+
+    private GeoGrid() {
+    }
+
+    static boolean isValid(double latitude, double longitude) {
+        return latitude >= -90 && latitude <= 90 && longitude >= -180 && longitude <= 180;
+    }
+
+    static int cell(double latitude, double longitude) {
+        return row(latitude) * COLUMNS + column(longitude);
+    }
+
+    /**
+     * Visit every cell that may contain a point within {@code radiusKm} of the centre.
+     */
+    static void forEachCell(double latitude, double longitude, double radiusKm, IntConsumer action) {
+        double latitudeDelta = radiusKm / KM_PER_DEGREE;
+        double minLatitude = latitude - latitudeDelta;
+        double maxLatitude = latitude + latitudeDelta;
+
+        int minColumn;
+        int columnCount;
+        double widest = Math.max(Math.abs(minLatitude), Math.abs(maxLatitude));
+        if (widest >= 90) {
+            minColumn = 0;
+            columnCount = COLUMNS; // Circle contains a pole
+        } else {
+            double longitudeDelta = latitudeDelta / Math.cos(Math.toRadians(widest));
+            minColumn = rawColumn(longitude - longitudeDelta);
+            columnCount = Math.min(COLUMNS, rawColumn(longitude + longitudeDelta) - minColumn + 1);
+        }
+
+        int minRow = row(Math.max(-90, minLatitude));
+        int maxRow = row(Math.min(90, maxLatitude));
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int i = 0; i < columnCount; i++) {
+                action.accept(row * COLUMNS + Math.floorMod(minColumn + i, COLUMNS));
+            }
+        }
+    }
+
+    /**
+     * Great-circle distance in kilometres (haversine).
+     */
+    static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    private static int row(double latitude) {
+        return Math.min(ROWS - 1, (int) Math.floor((latitude + 90) / CELL_DEGREES));
+    }
+
+    private static int column(double longitude) {
+        return Math.floorMod(rawColumn(longitude), COLUMNS);
+    }
+
+    private static int rawColumn(double longitude) {
+        return (int) Math.floor((longitude + 180) / CELL_DEGREES);
+    }
+}
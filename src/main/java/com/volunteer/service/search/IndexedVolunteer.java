@@ -0,0 +1,117 @@
+package com.volunteer.service.search;
+
+import java.time.DayOfWeek;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.volunteer.service.dto.VolunteerResponseDTO.AvailabilityDTO;
+import com.volunteer.service.model.Volunteer;
+
+/**
+ * Immutable snapshot of the searchable attributes of a volunteer.
+ * Taken inside the transaction that loaded the entity, applied to the index after commit.
+ *
+ * @param version the entity's {@code @Version}, used to drop snapshots older than the indexed one
+ * @param latitude {@code NaN} when the volunteer has no usable location
+ * @param longitude {@code NaN} when the volunteer has no usable location
+ */
+public record IndexedVolunteer(int id, long version, boolean active, Set<String> skills, Set<String> interests,
+                               double latitude, double longitude, Set<DayOfWeek> availableDays, boolean weekends) {
+
+    private static final ObjectReader AVAILABILITY_READER = new ObjectMapper()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .readerFor(AvailabilityDTO.class);
+
+    public static IndexedVolunteer from(Volunteer volunteer) {
+        long version = volunteer.getVersion() == null ? 0L : volunteer.getVersion();
+        double latitude = Double.NaN;
+        double longitude = Double.NaN;
+        if (volunteer.getLatitude() != null && volunteer.getLongitude() != null
+                && GeoGrid.isValid(volunteer.getLatitude(), volunteer.getLongitude())) {
+            latitude = volunteer.getLatitude();
+            longitude = volunteer.getLongitude();
+        }
+        AvailabilityDTO availability = parseAvailability(volunteer.getAvailability());
+        return new IndexedVolunteer(
+                Math.toIntExact(volunteer.getId()),
+                version,
+                Boolean.TRUE.equals(volunteer.getIsActive()),
+                tokens(volunteer.getSkills()),
+                tokens(volunteer.getInterests()),
+                latitude,
+                longitude,
+                availability == null ? Collections.emptySet() : days(availability.getWeekdays()),
+                availability != null && availability.isWeekends());
+    }
+
+    public boolean hasLocation() {
+        return !Double.isNaN(latitude);
+    }
+
+    /**
+     * Normalise values to index tokens (trimmed, lower case).
+     */
+    public static Set<String> tokens(Iterable<String> values) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (values != null) {
+            for (String value : values) {
+                String token = token(value);
+                if (token != null) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    public static String token(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Parse a day name such as {@code "monday"}. Returns null for blank or unknown values.
+     */
+    public static DayOfWeek day(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return DayOfWeek.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Set<DayOfWeek> days(Iterable<String> values) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        if (values != null) {
+            for (String value : values) {
+                DayOfWeek day = day(value);
+                if (day != null) {
+                    days.add(day);
+                }
+            }
+        }
+        return days;
+    }
+
+    private static AvailabilityDTO parseAvailability(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return AVAILABILITY_READER.readValue(json);
+        } catch (Exception e) {
+            return null; // Same as the profile read path: malformed availability is treated as unset
+        }
+    }
+}
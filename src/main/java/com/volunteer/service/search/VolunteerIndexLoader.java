@@ -0,0 +1,85 @@
+package com.volunteer.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.volunteer.service.model.Volunteer;
+import com.volunteer.service.repository.VolunteerRepository;
+import com.volunteer.service.service.LegacyBackfillCompletedEvent;
+
+/**
+ * Builds the in-memory volunteer indexes at startup.
+ *
+ * Waits for the legacy collection backfill so every volunteer is read with its
+ * complete skills and interests, then scans the table in id-ordered keyset pages,
+ * one short read-only transaction per page.
+ */
+@Component
+public class VolunteerIndexLoader {
+
+    private static final Logger log = LoggerFactory.getLogger(VolunteerIndexLoader.class);
+
+    private final VolunteerRepository volunteerRepository;
+    private final VolunteerSearchIndex searchIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${volunteer.search.load-batch-size:1000}")
+    private int batchSize;
+
+    public VolunteerIndexLoader(VolunteerRepository volunteerRepository,
+                                VolunteerSearchIndex searchIndex,
+                                PlatformTransactionManager transactionManager) {
+        this.volunteerRepository = volunteerRepository;
+        this.searchIndex = searchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    @Async
+    @EventListener(LegacyBackfillCompletedEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        AtomicLong lastId = new AtomicLong();
+        long loaded = 0;
+        while (true) {
+            List<IndexedVolunteer> batch = transactionTemplate.execute(status -> {
+                List<Volunteer> page = volunteerRepository.findPageAfter(lastId.get(), PageRequest.of(0, batchSize));
+                if (page.isEmpty()) {
+                    return null;
+                }
+                lastId.set(page.get(page.size() - 1).getId());
+                return snapshot(page);
+            });
+            if (batch == null) {
+                break;
+            }
+            searchIndex.load(batch);
+            loaded += batch.size();
+        }
+        searchIndex.markReady();
+        log.info("Volunteer search index loaded {} volunteers in {} ms", loaded, System.currentTimeMillis() - started);
+    }
+
+    static List<IndexedVolunteer> snapshot(List<Volunteer> page) {
+        List<IndexedVolunteer> snapshots = new ArrayList<>(page.size());
+        for (Volunteer volunteer : page) {
+            try {
+                snapshots.add(IndexedVolunteer.from(volunteer));
+            } catch (ArithmeticException e) {
+                log.warn("Volunteer id {} exceeds the index id range, not indexed", volunteer.getId());
+            }
+        }
+        return snapshots;
+    }
+}
@@ -0,0 +1,97 @@
+package com.volunteer.service.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.volunteer.service.datasource.ReadYourWrites;
+import com.volunteer.service.model.Volunteer;
+import com.volunteer.service.repository.VolunteerRepository;
+import com.volunteer.service.util.TransactionHooks;
+
+/**
+ * Keeps the in-memory volunteer indexes in step with committed profile changes.
+ * Snapshots are taken while the entity is still attached; the index is only touched
+ * after the transaction commits so a rollback never leaks into search results.
+ * Changes made on other nodes arrive with their cache invalidations and are re-read, see {@link #refresh}.
+ */
+@Component
+public class VolunteerIndexSync {
+
+    private static final Logger log = LoggerFactory.getLogger(VolunteerIndexSync.class);
+
+    private final VolunteerSearchIndex searchIndex;
+    private final VolunteerRepository volunteerRepository;
+    private final ReadYourWrites readYourWrites;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${volunteer.search.load-batch-size:1000}")
+    private int batchSize;
+
+    public VolunteerIndexSync(VolunteerSearchIndex searchIndex,
+                              VolunteerRepository volunteerRepository,
+                              ReadYourWrites readYourWrites,
+                              PlatformTransactionManager transactionManager) {
+        this.searchIndex = searchIndex;
+        this.volunteerRepository = volunteerRepository;
+        this.readYourWrites = readYourWrites;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public void indexAfterCommit(Volunteer volunteer) {
+        IndexedVolunteer snapshot;
+        try {
+            snapshot = IndexedVolunteer.from(volunteer);
+        } catch (ArithmeticException e) {
+            log.warn("Volunteer id {} exceeds the index id range, not indexed", volunteer.getId());
+            return;
+        }
+        TransactionHooks.afterCommit(() -> searchIndex.index(snapshot));
+    }
+
+    public void removeAfterCommit(Long id) {
+        if (id > Integer.MAX_VALUE) {
+            return;
+        }
+        int indexId = id.intValue();
+        TransactionHooks.afterCommit(() -> searchIndex.remove(indexId));
+    }
+
+    /**
+     * Re-read volunteers written on another node and apply them to the local index;
+     * ids that no longer exist are removed. Reads go to the primary while the writes
+     * are recent, and snapshot versions keep a late refresh from undoing a newer one.
+     */
+    @Async
+    public void refresh(Collection<Long> ids) {
+        List<Long> pending = new ArrayList<>(ids);
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            List<Long> batch = pending.subList(from, Math.min(from + batchSize, pending.size()));
+            List<IndexedVolunteer> snapshots = transactionTemplate.execute(status -> {
+                readYourWrites.route(batch);
+                return VolunteerIndexLoader.snapshot(volunteerRepository.findAllById(batch));
+            });
+            Set<Long> missing = new HashSet<>(batch);
+            for (IndexedVolunteer snapshot : snapshots) {
+                searchIndex.index(snapshot);
+                missing.remove((long) snapshot.id());
+            }
+            for (Long id : missing) {
+                if (id <= Integer.MAX_VALUE) {
+                    searchIndex.remove(id.intValue());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,342 @@
+package com.volunteer.service.search;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.PeekableIntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import com.volunteer.service.exception.IndexNotReadyException;
+
+/**
+ * In-memory inverted index from skill/interest token to a compressed bitmap of volunteer ids,
+ * plus a {@link GeoGrid} cell index over volunteer locations for nearby queries.
+ *
+ * Queries are bitmap AND/OR operations and never touch the database. The index is
+ * bulk-loaded once at startup and then kept current incrementally from committed
+ * profile updates and deletes. Readers share a read lock; writers take the write lock
+ * only for the duration of a single document swap.
+ */
+@Component
+public class VolunteerSearchIndex {
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, RoaringBitmap> skillPostings = new HashMap<>();
+    private final Map<String, RoaringBitmap> interestPostings = new HashMap<>();
+    private final RoaringBitmap allIds = new RoaringBitmap();
+    private final RoaringBitmap activeIds = new RoaringBitmap();
+    private final RoaringBitmap weekendIds = new RoaringBitmap();
+    private final Map<DayOfWeek, RoaringBitmap> dayPostings = new EnumMap<>(DayOfWeek.class);
+    private final Map<Integer, RoaringBitmap> cellPostings = new HashMap<>();
+    private final Map<Integer, IndexedVolunteer> documents = new HashMap<>();
+
+    // Ids deleted while the bulk load is running, so stale loader snapshots are not resurrected
+    private final Set<Integer> deletedDuringLoad = new HashSet<>();
+    private volatile boolean ready;
+
+    /**
+     * Add or replace a volunteer. Snapshots older than the indexed one are ignored.
+     */
+    public void index(IndexedVolunteer volunteer) {
+        lock.writeLock().lock();
+        try {
+            apply(volunteer, false);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Add a batch of volunteers read by the startup loader.
+     */
+    public void load(Collection<IndexedVolunteer> volunteers) {
+        lock.writeLock().lock();
+        try {
+            for (IndexedVolunteer volunteer : volunteers) {
+                apply(volunteer, true);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            IndexedVolunteer previous = documents.remove(id);
+            if (previous != null) {
+                unlink(previous);
+            }
+            if (!ready) {
+                deletedDuringLoad.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Mark the bulk load as finished and compact the bitmaps.
+     */
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            skillPostings.values().forEach(RoaringBitmap::runOptimize);
+            interestPostings.values().forEach(RoaringBitmap::runOptimize);
+            dayPostings.values().forEach(RoaringBitmap::runOptimize);
+            cellPostings.values().forEach(RoaringBitmap::runOptimize);
+            allIds.runOptimize();
+            activeIds.runOptimize();
+            weekendIds.runOptimize();
+            deletedDuringLoad.clear();
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Run a query and return the requested page of matching ids in ascending order.
+     */
+    public SearchResult search(SearchQuery query) {
+        if (!ready) {
+            throw new IndexNotReadyException("Volunteer search index is still loading");
+        }
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = evaluate(query);
+            return page(matches, query.page(), query.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Find volunteers within the query radius, nearest first.
+     * Candidates come from the grid cells covering the circle and are narrowed by the
+     * filter bitmaps before any distance is computed.
+     */
+    public NearbyResult nearby(NearbyQuery query) {
+        if (!ready) {
+            throw new IndexNotReadyException("Volunteer search index is still loading");
+        }
+        lock.readLock().lock();
+        try {
+            List<RoaringBitmap> cells = new ArrayList<>();
+            GeoGrid.forEachCell(query.latitude(), query.longitude(), query.radiusKm(), cell -> {
+                RoaringBitmap posting = cellPostings.get(cell);
+                if (posting != null) {
+                    cells.add(posting);
+                }
+            });
+            if (cells.isEmpty()) {
+                return new NearbyResult(0, new int[0], new double[0]);
+            }
+            RoaringBitmap candidates = cells.size() == 1
+                    ? cells.get(0).clone() : FastAggregation.or(cells.toArray(new RoaringBitmap[0]));
+            filterActive(candidates, query.active());
+            if (query.day() != null) {
+                RoaringBitmap posting = dayPostings.get(query.day());
+                if (posting == null) {
+                    return new NearbyResult(0, new int[0], new double[0]);
+                }
+                candidates.and(posting);
+            }
+            if (Boolean.TRUE.equals(query.weekends())) {
+                candidates.and(weekendIds);
+            } else if (Boolean.FALSE.equals(query.weekends())) {
+                candidates.andNot(weekendIds);
+            }
+
+            // Sort key: non-negative float distance bits (order-preserving) above the id
+            long[] hits = new long[candidates.getCardinality()];
+            int count = 0;
+            for (IntIterator it = candidates.getIntIterator(); it.hasNext(); ) {
+                int id = it.next();
+                IndexedVolunteer document = documents.get(id);
+                double distance = GeoGrid.distanceKm(query.latitude(), query.longitude(),
+                        document.latitude(), document.longitude());
+                if (distance <= query.radiusKm()) {
+                    hits[count++] = ((long) Float.floatToIntBits((float) distance) << 32) | id;
+                }
+            }
+            Arrays.sort(hits, 0, count);
+
+            int from = (int) Math.min((long) query.page() * query.size(), count);
+            int to = (int) Math.min((long) from + query.size(), count);
+            int[] ids = new int[to - from];
+            double[] distances = new double[to - from];
+            for (int i = from; i < to; i++) {
+                int id = (int) hits[i];
+                IndexedVolunteer document = documents.get(id);
+                ids[i - from] = id;
+                distances[i - from] = GeoGrid.distanceKm(query.latitude(), query.longitude(),
+                        document.latitude(), document.longitude());
+            }
+            return new NearbyResult(count, ids, distances);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Evaluate a query to a bitmap of matching ids. Callers must hold the read lock.
+     * The returned bitmap is always a fresh copy that can be modified freely.
+     */
+    RoaringBitmap evaluate(SearchQuery query) {
+        List<RoaringBitmap> groups = new ArrayList<>(2);
+        if (!query.skills().isEmpty()) {
+            groups.add(combine(skillPostings, query.skills(), query.matchAll()));
+        }
+        if (!query.interests().isEmpty()) {
+            groups.add(combine(interestPostings, query.interests(), query.matchAll()));
+        }
+
+        RoaringBitmap result;
+        if (groups.isEmpty()) {
+            result = allIds.clone();
+        } else if (groups.size() == 1) {
+            result = groups.get(0);
+        } else {
+            result = RoaringBitmap.and(groups.get(0), groups.get(1));
+        }
+
+        filterActive(result, query.active());
+        return result;
+    }
+
+    private void filterActive(RoaringBitmap bitmap, Boolean active) {
+        if (Boolean.TRUE.equals(active)) {
+            bitmap.and(activeIds);
+        } else if (Boolean.FALSE.equals(active)) {
+            bitmap.andNot(activeIds);
+        }
+    }
+
+    private static RoaringBitmap combine(Map<String, RoaringBitmap> postings, Set<String> tokens, boolean matchAll) {
+        RoaringBitmap[] bitmaps = new RoaringBitmap[tokens.size()];
+        int i = 0;
+        for (String token : tokens) {
+            RoaringBitmap posting = postings.get(token);
+            if (posting == null) {
+                if (matchAll) {
+                    return new RoaringBitmap(); // A missing term can never be satisfied
+                }
+                posting = new RoaringBitmap();
+            }
+            bitmaps[i++] = posting;
+        }
+        if (bitmaps.length == 1) {
+            return bitmaps[0].clone();
+        }
+        return matchAll ? FastAggregation.and(bitmaps) : FastAggregation.or(bitmaps);
+    }
+
+    private static SearchResult page(RoaringBitmap matches, int page, int size) {
+        long total = matches.getLongCardinality();
+        long offset = (long) page * size;
+        if (offset >= total) {
+            return new SearchResult(total, new int[0]);
+        }
+        int count = (int) Math.min(size, total - offset);
+        int[] ids = new int[count];
+        PeekableIntIterator iterator = matches.getIntIterator();
+        iterator.advanceIfNeeded(matches.select((int) offset));
+        for (int i = 0; i < count; i++) {
+            ids[i] = iterator.next();
+        }
+        return new SearchResult(total, ids);
+    }
+
+    private void apply(IndexedVolunteer volunteer, boolean fromLoader) {
+        if (fromLoader && deletedDuringLoad.contains(volunteer.id())) {
+            return;
+        }
+        IndexedVolunteer previous = documents.get(volunteer.id());
+        if (previous != null) {
+            if (previous.version() > volunteer.version()) {
+                return;
+            }
+            unlink(previous);
+        }
+        documents.put(volunteer.id(), volunteer);
+        allIds.add(volunteer.id());
+        if (volunteer.active()) {
+            activeIds.add(volunteer.id());
+        }
+        if (volunteer.weekends()) {
+            weekendIds.add(volunteer.id());
+        }
+        volunteer.skills().forEach(token -> skillPostings.computeIfAbsent(token, t -> new RoaringBitmap()).add(volunteer.id()));
+        volunteer.interests().forEach(token -> interestPostings.computeIfAbsent(token, t -> new RoaringBitmap()).add(volunteer.id()));
+        volunteer.availableDays().forEach(day -> dayPostings.computeIfAbsent(day, d -> new RoaringBitmap()).add(volunteer.id()));
+        if (volunteer.hasLocation()) {
+            cellPostings.computeIfAbsent(GeoGrid.cell(volunteer.latitude(), volunteer.longitude()),
+                    c -> new RoaringBitmap()).add(volunteer.id());
+        }
+    }
+
+    private void unlink(IndexedVolunteer volunteer) {
+        allIds.remove(volunteer.id());
+        activeIds.remove(volunteer.id());
+        weekendIds.remove(volunteer.id());
+        volunteer.skills().forEach(token -> removePosting(skillPostings, token, volunteer.id()));
+        volunteer.interests().forEach(token -> removePosting(interestPostings, token, volunteer.id()));
+        volunteer.availableDays().forEach(day -> removePosting(dayPostings, day, volunteer.id()));
+        if (volunteer.hasLocation()) {
+            removePosting(cellPostings, GeoGrid.cell(volunteer.latitude(), volunteer.longitude()), volunteer.id());
+        }
+    }
+
+    private static <K> void removePosting(Map<K, RoaringBitmap> postings, K token, int id) {
+        RoaringBitmap posting = postings.get(token);
+        if (posting != null) {
+            posting.remove(id);
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Index query. Tokens must already be normalised with {@link IndexedVolunteer#tokens}.
+     */
+    public record SearchQuery(Set<String> skills, Set<String> interests, Boolean active,
+                              boolean matchAll, int page, int size) {
+    }
+
+    /**
+     * One page of matching ids plus the total number of matches.
+     */
+    public record SearchResult(long total, int[] ids) {
+    }
+
+    /**
+     * Radius query. Null filters are not applied; {@code day} requires availability on that weekday.
+     */
+    public record NearbyQuery(double latitude, double longitude, double radiusKm, Boolean active,
+                              DayOfWeek day, Boolean weekends, int page, int size) {
+    }
+
+    /**
+     * One page of ids ordered by distance, with the distance of each in kilometres.
+     */
+    public record NearbyResult(long total, int[] ids, double[] distancesKm) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.volunteer.service.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.volunteer.service.model.DriveStatus;
+
+/**
+ * Opaque cursor of a drive list page: the last drive row id of the page and its status,
+ * Base64url encoded. Clients pass it back unchanged as {@code after}.
+ */
+final class DriveCursor {
+
+    private static final String VERSION = "d1";
+
+    private DriveCursor() {
+        // Utility class
+    }
+
+    static String encode(DriveStatus status, long lastId) {
+        String raw = VERSION + ":" + status.name() + ":" + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Row id to continue after; 0 for a missing cursor (first page).
+     * Rejects cursors that are malformed or belong to the other drive list.
+     */
+    static long decode(String cursor, DriveStatus status) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII).split(":");
+            if (parts.length == 3 && VERSION.equals(parts[0]) && status.name().equals(parts[1])) {
+                long lastId = Long.parseLong(parts[2]);
+                if (lastId >= 0) {
+                    return lastId;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Not Base64 or not a number, reported below
+        }
+        throw new IllegalArgumentException("Invalid cursor: " + cursor);
+    }
+}
@@ -0,0 +1,8 @@
+package com.volunteer.service.service;
+
+/**
+ * Published once the legacy collection backfill has finished, after which the
+ * child tables hold the complete skills, interests and drive history.
+ */
+public record LegacyBackfillCompletedEvent(long migratedVolunteers) {
+}
@@ -0,0 +1,200 @@
+package com.volunteer.service.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.BadSqlGrammarException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.volunteer.service.mapper.JsonFieldCodec;
+import com.volunteer.service.model.DriveStatus;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Online backfill of the legacy JSON-in-TEXT collection columns into child tables.
+ *
+ * Runs in small batches after startup while the service keeps serving traffic.
+ * Each row is claimed by flipping {@code collections_migrated} before its child
+ * rows are written, so concurrent nodes (or an on-demand migration from a request)
+ * never copy the same row twice. Until the first full pass finishes, request paths
+ * call {@link #ensureMigrated(Long)} so they never observe a half-migrated volunteer.
+ */
+@Component
+public class LegacyCollectionBackfill {
+
+    private static final Logger log = LoggerFactory.getLogger(LegacyCollectionBackfill.class);
+
+    private static final String SELECT_COLUMNS =
+            "SELECT id, skills, interests, drives_applied, drives_completed FROM volunteers ";
+    private static final String SELECT_BATCH =
+            SELECT_COLUMNS + "WHERE collections_migrated = false ORDER BY id LIMIT ?";
+    private static final String SELECT_ONE =
+            SELECT_COLUMNS + "WHERE id = ? AND collections_migrated = false";
+    private static final String CLAIM =
+            "UPDATE volunteers SET collections_migrated = true WHERE id = ? AND collections_migrated = false";
+    private static final String INSERT_SKILL =
+            "INSERT INTO volunteer_skills (volunteer_id, skill) VALUES (?, ?)";
+    private static final String INSERT_INTEREST =
+            "INSERT INTO volunteer_interests (volunteer_id, interest) VALUES (?, ?)";
+    private static final String INSERT_DRIVE =
+            "INSERT INTO volunteer_drives (volunteer_id, drive_id, status, created_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)";
+
+    private static final int MAX_VALUE_LENGTH = 100;
+
+    private static final RowMapper<LegacyRow> LEGACY_ROW = LegacyCollectionBackfill::mapRow;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final JsonFieldCodec jsonFieldCodec;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean complete = new AtomicBoolean();
+
+    @Value("${volunteer.backfill.batch-size:500}")
+    private int batchSize;
+
+    public LegacyCollectionBackfill(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    JsonFieldCodec jsonFieldCodec,
+                                    ApplicationEventPublisher eventPublisher,
+                                    MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.jsonFieldCodec = jsonFieldCodec;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Migrate all remaining rows in batches, one transaction per batch.
+     * Publishes {@link LegacyBackfillCompletedEvent} when done.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void runBackfill() {
+        long total = 0;
+        try {
+            while (true) {
+                List<LegacyRow> batch = jdbcTemplate.query(SELECT_BATCH, LEGACY_ROW, batchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                Integer migrated = transactionTemplate.execute(status -> migrate(batch));
+                total += migrated == null ? 0 : migrated;
+            }
+        } catch (BadSqlGrammarException e) {
+            log.info("Legacy collection columns not present, nothing to backfill");
+        }
+        complete.set(true);
+        if (total > 0) {
+            log.info("Legacy collection backfill finished, migrated {} volunteers", total);
+        }
+        eventPublisher.publishEvent(new LegacyBackfillCompletedEvent(total));
+    }
+
+    /**
+     * Make sure a single volunteer has been migrated before it is read or written.
+     * Free once the backfill has completed.
+     */
+    public void ensureMigrated(Long id) {
+        if (complete.get()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    migrate(jdbcTemplate.query(SELECT_ONE, LEGACY_ROW, id)));
+        } catch (BadSqlGrammarException e) {
+            complete.set(true); // Schema was created without the legacy columns
+        }
+    }
+
+    public boolean isComplete() {
+        return complete.get();
+    }
+
+    /**
+     * Claim the rows and copy their JSON into the child tables. Returns the rows claimed.
+     */
+    private int migrate(List<LegacyRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        List<Object[]> claims = new ArrayList<>(rows.size());
+        rows.forEach(row -> claims.add(new Object[]{row.id()}));
+        int[] claimed = jdbcTemplate.batchUpdate(CLAIM, claims);
+
+        List<Object[]> skills = new ArrayList<>();
+        List<Object[]> interests = new ArrayList<>();
+        List<Object[]> drives = new ArrayList<>();
+        int count = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            if (claimed[i] == 0) {
+                continue; // Migrated concurrently by another node or request
+            }
+            LegacyRow row = rows.get(i);
+            count++;
+            parse("skills", row.skills()).forEach(skill -> skills.add(new Object[]{row.id(), skill}));
+            parse("interests", row.interests()).forEach(interest -> interests.add(new Object[]{row.id(), interest}));
+            parse("drives_applied", row.drivesApplied()).forEach(drive ->
+                    drives.add(new Object[]{row.id(), drive, DriveStatus.APPLIED.name()}));
+            parse("drives_completed", row.drivesCompleted()).forEach(drive ->
+                    drives.add(new Object[]{row.id(), drive, DriveStatus.COMPLETED.name()}));
+        }
+        jdbcTemplate.batchUpdate(INSERT_SKILL, skills);
+        jdbcTemplate.batchUpdate(INSERT_INTEREST, interests);
+        jdbcTemplate.batchUpdate(INSERT_DRIVE, drives);
+        return count;
+    }
+
+    /**
+     * Parse a legacy JSON array, de-duplicated and in original order.
+     * Malformed arrays are logged, counted in {@code volunteer.json.parse.failures} and treated
+     * as empty, matching the old read path; values that do not fit the child table columns are dropped.
+     */
+    private Set<String> parse(String column, String json) {
+        if (json == null || json.trim().isEmpty()) {
+            return Collections.emptySet();
+        }
+        try {
+            Set<String> values = new LinkedHashSet<>();
+            for (String value : jsonFieldCodec.readStringList(json)) {
+                if (value != null && !value.isBlank() && value.trim().length() <= MAX_VALUE_LENGTH) {
+                    values.add(value.trim());
+                }
+            }
+            return values;
+        } catch (Exception e) {
+            meterRegistry.counter("volunteer.json.parse.failures", "field", column).increment();
+            log.warn("Skipping malformed legacy JSON value in {}: {}", column, e.getMessage());
+            return Collections.emptySet();
+        }
+    }
+
+    private static LegacyRow mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new LegacyRow(rs.getLong("id"), rs.getString("skills"), rs.getString("interests"),
+                rs.getString("drives_applied"), rs.getString("drives_completed"));
+    }
+
+    private record LegacyRow(long id, String skills, String interests, String drivesApplied, String drivesCompleted) {
+    }
+}
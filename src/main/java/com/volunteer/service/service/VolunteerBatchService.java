@@ -0,0 +1,191 @@
+package com.volunteer.service.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.volunteer.service.cache.VolunteerCacheInvalidator;
+import com.volunteer.service.dto.VolunteerBatchResultDTO;
+import com.volunteer.service.dto.VolunteerBatchResultDTO.ItemResult;
+import com.volunteer.service.dto.VolunteerBatchUpdateItemDTO;
+import com.volunteer.service.event.VolunteerEventOutbox;
+import com.volunteer.service.event.VolunteerEventType;
+import com.volunteer.service.exception.ResourceNotFoundException;
+import com.volunteer.service.exception.UpdateConflictException;
+import com.volunteer.service.model.Volunteer;
+import com.volunteer.service.repository.VolunteerRepository;
+import com.volunteer.service.search.VolunteerIndexSync;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Service for bulk profile updates.
+ *
+ * A batch is applied in one transaction: targets are loaded with a single IN query,
+ * changed in memory and flushed with JDBC batching, and every affected cache key is
+ * evicted in one pipelined Redis call after commit. Items that fail validation or do
+ * not exist are reported individually, and items that match the stored values are not
+ * written. If the flush itself fails, for instance because another writer committed first,
+ * each item is retried through the conflict-checked single update: it is re-applied unless
+ * that writer changed one of its fields, which is reported as a conflict.
+ */
+@Service
+public class VolunteerBatchService {
+
+    private static final Logger log = LoggerFactory.getLogger(VolunteerBatchService.class);
+
+    private final VolunteerRepository volunteerRepository;
+    private final VolunteerService volunteerService;
+    private final LegacyCollectionBackfill legacyBackfill;
+    private final VolunteerCacheInvalidator cacheInvalidator;
+    private final VolunteerIndexSync indexSync;
+    private final VolunteerEventOutbox eventOutbox;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${volunteer.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Autowired
+    public VolunteerBatchService(VolunteerRepository volunteerRepository,
+                                 VolunteerService volunteerService,
+                                 LegacyCollectionBackfill legacyBackfill,
+                                 VolunteerCacheInvalidator cacheInvalidator,
+                                 VolunteerIndexSync indexSync,
+                                 VolunteerEventOutbox eventOutbox,
+                                 Validator validator,
+                                 PlatformTransactionManager transactionManager) {
+        this.volunteerRepository = volunteerRepository;
+        this.volunteerService = volunteerService;
+        this.legacyBackfill = legacyBackfill;
+        this.cacheInvalidator = cacheInvalidator;
+        this.indexSync = indexSync;
+        this.eventOutbox = eventOutbox;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Apply a batch of profile updates and report the outcome of each item in request order.
+     */
+    public VolunteerBatchResultDTO updateVolunteers(List<VolunteerBatchUpdateItemDTO> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("At least one update is required");
+        }
+        if (items.size() > maxBatchSize) {
+            throw new IllegalArgumentException("A batch may contain at most " + maxBatchSize + " updates");
+        }
+
+        ItemResult[] results = new ItemResult[items.size()];
+        Map<Long, Integer> positions = new LinkedHashMap<>();
+        for (int i = 0; i < items.size(); i++) {
+            VolunteerBatchUpdateItemDTO item = items.get(i);
+            if (item == null) {
+                results[i] = new ItemResult(null, VolunteerBatchResultDTO.INVALID, "Update must not be null");
+                continue;
+            }
+            Set<ConstraintViolation<VolunteerBatchUpdateItemDTO>> violations = validator.validate(item);
+            if (!violations.isEmpty()) {
+                results[i] = new ItemResult(item.getId(), VolunteerBatchResultDTO.INVALID, describe(violations));
+            } else if (positions.putIfAbsent(item.getId(), i) != null) {
+                results[i] = new ItemResult(item.getId(), VolunteerBatchResultDTO.INVALID, "Duplicate id in batch");
+            }
+        }
+
+        if (!positions.isEmpty()) {
+            Map<Long, ObjectNode> readValues = new HashMap<>();
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply(items, positions, results, readValues));
+            } catch (DataAccessException | TransactionException e) {
+                log.warn("Batch update of {} volunteers failed, retrying item by item: {}", positions.size(), e.getMessage());
+                positions.forEach((id, position) -> applySingle(items.get(position), position, results, readValues.get(id)));
+            }
+        }
+        return new VolunteerBatchResultDTO(Arrays.asList(results));
+    }
+
+    private void applySingle(VolunteerBatchUpdateItemDTO item, int position, ItemResult[] results, ObjectNode readValues) {
+        Long id = item.getId();
+        try {
+            boolean changed = volunteerService.updateVolunteer(id, item, readValues).changed();
+            results[position] = new ItemResult(id, changed ? VolunteerBatchResultDTO.UPDATED : VolunteerBatchResultDTO.UNCHANGED, null);
+        } catch (ResourceNotFoundException e) {
+            results[position] = new ItemResult(id, VolunteerBatchResultDTO.NOT_FOUND, e.getMessage());
+        } catch (UpdateConflictException e) {
+            results[position] = new ItemResult(id, VolunteerBatchResultDTO.CONFLICT, e.getMessage());
+        } catch (IllegalArgumentException e) {
+            results[position] = new ItemResult(id, VolunteerBatchResultDTO.INVALID, e.getMessage());
+        } catch (DataAccessException | TransactionException e) {
+            Throwable cause = e.getMostSpecificCause();
+            results[position] = new ItemResult(id, VolunteerBatchResultDTO.FAILED, cause.getMessage());
+        }
+    }
+
+    /**
+     * Load, update and flush the given items inside the current transaction, keeping the
+     * values each written item was checked against for a retry.
+     */
+    private void apply(List<VolunteerBatchUpdateItemDTO> items, Map<Long, Integer> positions, ItemResult[] results,
+                       Map<Long, ObjectNode> readValues) {
+        positions.keySet().forEach(legacyBackfill::ensureMigrated);
+        Map<Long, Volunteer> volunteers = new HashMap<>();
+        volunteerRepository.findAllById(positions.keySet()).forEach(volunteer -> volunteers.put(volunteer.getId(), volunteer));
+
+        List<Long> updated = new ArrayList<>(volunteers.size());
+        LocalDateTime now = LocalDateTime.now();
+        positions.forEach((id, position) -> {
+            Volunteer volunteer = volunteers.get(id);
+            if (volunteer == null) {
+                results[position] = new ItemResult(id, VolunteerBatchResultDTO.NOT_FOUND, "Volunteer not found with id: " + id);
+                return;
+            }
+            ObjectNode read;
+            try {
+                read = volunteerService.applyIfChanged(volunteer, items.get(position), now);
+            } catch (IllegalArgumentException e) {
+                results[position] = new ItemResult(id, VolunteerBatchResultDTO.INVALID, e.getMessage());
+                return;
+            }
+            if (read == null) {
+                results[position] = new ItemResult(id, VolunteerBatchResultDTO.UNCHANGED, null);
+                return;
+            }
+            readValues.put(id, read);
+            results[position] = new ItemResult(id, VolunteerBatchResultDTO.UPDATED, null);
+            updated.add(id);
+        });
+
+        // Flush here so constraint violations surface before the invalidation hooks are registered
+        volunteerRepository.flush();
+        eventOutbox.recordAll(VolunteerEventType.VOLUNTEER_UPDATED, updated);
+        for (Long id : updated) {
+            indexSync.indexAfterCommit(volunteers.get(id));
+        }
+        cacheInvalidator.invalidateAll(updated);
+    }
+
+    private static String describe(Set<? extends ConstraintViolation<?>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,153 @@
+package com.volunteer.service.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.volunteer.service.cache.AccessFrequencySketch;
+import com.volunteer.service.config.CacheProperties;
+import com.volunteer.service.config.ExecutorConfig;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Warms the volunteer caches after a deploy.
+ *
+ * Profile and drive list reads are recorded in an {@link AccessFrequencySketch}. The
+ * top N ids are saved to a Redis sorted set periodically and at shutdown; on startup
+ * the ids saved by the previous run are loaded in batches, most popular first, at a
+ * bounded rate so warm-up does not compete with live traffic for connections.
+ */
+@Component
+public class VolunteerCacheWarmer {
+
+    private static final Logger log = LoggerFactory.getLogger(VolunteerCacheWarmer.class);
+
+    private final VolunteerService volunteerService;
+    private final StringRedisTemplate redisTemplate;
+    private final AccessFrequencySketch sketch;
+    private final String snapshotKey;
+    private final int topN;
+
+    @Value("${volunteer.cache.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${volunteer.cache.warmup.batch-size:100}")
+    private int batchSize;
+
+    @Value("${volunteer.cache.warmup.max-per-second:500}")
+    private int maxPerSecond;
+
+    public VolunteerCacheWarmer(VolunteerService volunteerService,
+                                StringRedisTemplate redisTemplate,
+                                CacheProperties cacheProperties,
+                                @Value("${volunteer.cache.warmup.top-n:10000}") int topN,
+                                @Value("${volunteer.cache.warmup.sketch-width:65536}") int sketchWidth) {
+        this.volunteerService = volunteerService;
+        this.redisTemplate = redisTemplate;
+        this.topN = topN;
+        this.sketch = new AccessFrequencySketch(topN, sketchWidth);
+        this.snapshotKey = cacheProperties.getKeyPrefix() + "warmup:top-volunteers";
+    }
+
+    /**
+     * Count a read of a volunteer's profile or drive lists.
+     */
+    public void recordAccess(Long id) {
+        if (enabled) {
+            sketch.record(id);
+        }
+    }
+
+    /**
+     * Save the current top N and age the counts.
+     */
+    @Scheduled(fixedDelayString = "${volunteer.cache.warmup.snapshot-interval:PT5M}",
+            initialDelayString = "${volunteer.cache.warmup.snapshot-interval:PT5M}")
+    public void snapshot() {
+        if (!enabled) {
+            return;
+        }
+        List<Map.Entry<Long, Integer>> top = sketch.top();
+        sketch.decay();
+        if (top.isEmpty()) {
+            return;
+        }
+        Set<TypedTuple<String>> tuples = new HashSet<>(top.size() * 2);
+        top.forEach(entry -> tuples.add(new DefaultTypedTuple<>(String.valueOf(entry.getKey()),
+                entry.getValue().doubleValue())));
+        try {
+            // Nodes add their own top ids; the set is trimmed back to the N highest scores
+            redisTemplate.opsForZSet().add(snapshotKey, tuples);
+            redisTemplate.opsForZSet().removeRange(snapshotKey, 0, -(topN + 1));
+        } catch (RuntimeException ex) {
+            log.warn("Failed to save cache warm-up snapshot: {}", ex.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void saveOnShutdown() {
+        snapshot();
+    }
+
+    /**
+     * Pre-load the volunteers saved by the previous run. Waits for the legacy backfill
+     * so the cached profiles are complete.
+     */
+    @Async(ExecutorConfig.CACHE_WARMUP_EXECUTOR)
+    @EventListener(LegacyBackfillCompletedEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>();
+        try {
+            Set<String> members = redisTemplate.opsForZSet().reverseRange(snapshotKey, 0, topN - 1);
+            if (members != null) {
+                members.forEach(member -> ids.add(Long.valueOf(member)));
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Skipping cache warm-up, snapshot unavailable: {}", ex.getMessage());
+            return;
+        }
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        long nanosPerBatch = 1_000_000_000L * batchSize / Math.max(1, maxPerSecond);
+        int warmed = 0;
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            long batchStarted = System.nanoTime();
+            try {
+                warmed += volunteerService.warmCaches(ids.subList(from, Math.min(from + batchSize, ids.size())));
+            } catch (RuntimeException ex) {
+                log.warn("Cache warm-up batch failed: {}", ex.getMessage());
+            }
+            long remaining = nanosPerBatch - (System.nanoTime() - batchStarted);
+            if (remaining > 0) {
+                try {
+                    Thread.sleep(remaining / 1_000_000, (int) (remaining % 1_000_000));
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+        log.info("Cache warm-up loaded {} of {} volunteers in {} ms", warmed, ids.size(),
+                System.currentTimeMillis() - started);
+    }
+}
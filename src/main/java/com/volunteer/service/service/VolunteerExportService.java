@@ -0,0 +1,336 @@
+package com.volunteer.service.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteer.service.exception.MigrationInProgressException;
+import com.volunteer.service.model.DriveStatus;
+import com.volunteer.service.model.Volunteer;
+import com.volunteer.service.model.VolunteerDrive;
+import com.volunteer.service.repository.VolunteerDriveRepository;
+import com.volunteer.service.repository.VolunteerRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Service for exporting the full volunteer roster.
+ *
+ * Volunteers are read through a forward-only database cursor and written straight
+ * to the response as they arrive. Rows are processed in chunks: the drive history
+ * of a chunk is fetched with one query, skills and interests are batch-fetched, and
+ * the persistence context is cleared afterwards, so heap use does not grow with the
+ * size of the table.
+ */
+@Service
+public class VolunteerExportService {
+
+    /**
+     * Supported export formats.
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format of(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported export format: " + value);
+            }
+        }
+    }
+
+    private static final String[] CSV_HEADER = {
+            "id", "name", "email", "phoneNumber", "location", "latitude", "longitude", "skills", "interests",
+            "availability", "drivesApplied", "drivesCompleted", "isActive", "createdAt", "updatedAt"
+    };
+
+    private final VolunteerRepository volunteerRepository;
+    private final VolunteerDriveRepository volunteerDriveRepository;
+    private final LegacyCollectionBackfill legacyBackfill;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${volunteer.export.chunk-size:500}")
+    private int chunkSize;
+
+    @Autowired
+    public VolunteerExportService(VolunteerRepository volunteerRepository,
+                                  VolunteerDriveRepository volunteerDriveRepository,
+                                  LegacyCollectionBackfill legacyBackfill,
+                                  ObjectMapper objectMapper,
+                                  PlatformTransactionManager transactionManager) {
+        this.volunteerRepository = volunteerRepository;
+        this.volunteerDriveRepository = volunteerDriveRepository;
+        this.legacyBackfill = legacyBackfill;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * Reject exports while the legacy backfill runs: drive history is read from the drive table
+     * only, so volunteers not yet migrated would be exported without their drives.
+     * Called before the response starts, so the client gets a 503 instead of a truncated file.
+     */
+    public void checkReady() {
+        if (!legacyBackfill.isComplete()) {
+            throw new MigrationInProgressException("Legacy data migration is still running, retry the export later");
+        }
+    }
+
+    /**
+     * Write every volunteer to the stream in the given format. Runs in its own read-only transaction.
+     */
+    public void export(OutputStream out, Format format) {
+        checkReady();
+        transactionTemplate.executeWithoutResult(status -> {
+            try (RowWriter writer = format == Format.CSV ? new CsvRowWriter(out) : new NdjsonRowWriter(out);
+                 Stream<Volunteer> volunteers = volunteerRepository.streamAllOrderById()) {
+                List<Volunteer> chunk = new ArrayList<>(chunkSize);
+                Iterator<Volunteer> iterator = volunteers.iterator();
+                while (iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                    if (chunk.size() == chunkSize) {
+                        writeChunk(writer, chunk);
+                    }
+                }
+                writeChunk(writer, chunk);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void writeChunk(RowWriter writer, List<Volunteer> chunk) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(chunk.size());
+        chunk.forEach(volunteer -> ids.add(volunteer.getId()));
+        Map<Long, List<VolunteerDrive>> drivesByVolunteer = new HashMap<>();
+        for (VolunteerDrive drive : volunteerDriveRepository.findByVolunteerIdInOrderById(ids)) {
+            drivesByVolunteer.computeIfAbsent(drive.getVolunteerId(), k -> new ArrayList<>()).add(drive);
+        }
+
+        for (Volunteer volunteer : chunk) {
+            List<String> drivesApplied = new ArrayList<>();
+            List<String> drivesCompleted = new ArrayList<>();
+            for (VolunteerDrive drive : drivesByVolunteer.getOrDefault(volunteer.getId(), List.of())) {
+                (drive.getStatus() == DriveStatus.COMPLETED ? drivesCompleted : drivesApplied).add(drive.getDriveId());
+            }
+            writer.write(volunteer, drivesApplied, drivesCompleted);
+        }
+        writer.flush();
+
+        // Detach the chunk so the persistence context does not grow with the export
+        chunk.clear();
+        entityManager.clear();
+    }
+
+    /**
+     * Parse the stored availability JSON, or null when it is missing or malformed.
+     */
+    private JsonNode availability(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private interface RowWriter extends AutoCloseable {
+        void write(Volunteer volunteer, List<String> drivesApplied, List<String> drivesCompleted) throws IOException;
+
+        void flush() throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+
+    /**
+     * One JSON object per line, written field by field with the streaming generator.
+     */
+    private final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream out) throws IOException {
+            this.generator = objectMapper.createGenerator(out);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+
+        @Override
+        public void write(Volunteer volunteer, List<String> drivesApplied, List<String> drivesCompleted) throws IOException {
+            generator.writeStartObject();
+            generator.writeNumberField("id", volunteer.getId());
+            writeString("name", volunteer.getName());
+            writeString("email", volunteer.getEmail());
+            writeString("phoneNumber", volunteer.getPhoneNumber());
+            writeString("location", volunteer.getLocation());
+            if (volunteer.getLatitude() != null) {
+                generator.writeNumberField("latitude", volunteer.getLatitude());
+            }
+            if (volunteer.getLongitude() != null) {
+                generator.writeNumberField("longitude", volunteer.getLongitude());
+            }
+            writeArray("skills", volunteer.getSkills());
+            writeArray("interests", volunteer.getInterests());
+            JsonNode availability = availability(volunteer.getAvailability());
+            if (availability != null) {
+                generator.writeFieldName("availability");
+                generator.writeTree(availability);
+            }
+            writeArray("drivesApplied", drivesApplied);
+            writeArray("drivesCompleted", drivesCompleted);
+            if (volunteer.getIsActive() != null) {
+                generator.writeBooleanField("isActive", volunteer.getIsActive());
+            }
+            writeTimestamp("createdAt", volunteer.getCreatedAt());
+            writeTimestamp("updatedAt", volunteer.getUpdatedAt());
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        private void writeString(String name, String value) throws IOException {
+            if (value != null) {
+                generator.writeStringField(name, value);
+            }
+        }
+
+        private void writeTimestamp(String name, LocalDateTime value) throws IOException {
+            if (value != null) {
+                generator.writeStringField(name, value.toString());
+            }
+        }
+
+        private void writeArray(String name, Collection<String> values) throws IOException {
+            generator.writeArrayFieldStart(name);
+            for (String value : values) {
+                generator.writeString(value);
+            }
+            generator.writeEndArray();
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            generator.close();
+        }
+    }
+
+    /**
+     * RFC 4180 CSV with a header row. Collections are joined with {@code ;}.
+     */
+    private final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            for (int i = 0; i < CSV_HEADER.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(CSV_HEADER[i]);
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(Volunteer volunteer, List<String> drivesApplied, List<String> drivesCompleted) throws IOException {
+            writeCell(volunteer.getId(), false);
+            writeCell(volunteer.getName(), true);
+            writeCell(volunteer.getEmail(), true);
+            writeCell(volunteer.getPhoneNumber(), true);
+            writeCell(volunteer.getLocation(), true);
+            writeCell(volunteer.getLatitude(), true);
+            writeCell(volunteer.getLongitude(), true);
+            writeCell(String.join(";", volunteer.getSkills()), true);
+            writeCell(String.join(";", volunteer.getInterests()), true);
+            JsonNode availability = availability(volunteer.getAvailability());
+            writeCell(availability == null ? null : availability.toString(), true);
+            writeCell(String.join(";", drivesApplied), true);
+            writeCell(String.join(";", drivesCompleted), true);
+            writeCell(volunteer.getIsActive(), true);
+            writeCell(volunteer.getCreatedAt(), true);
+            writeCell(volunteer.getUpdatedAt(), true);
+            writer.write("\r\n");
+        }
+
+        private void writeCell(Object value, boolean separator) throws IOException {
+            if (separator) {
+                writer.write(',');
+            }
+            if (value == null) {
+                return;
+            }
+            String text = value.toString();
+            if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(text.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(text);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            writer.flush(); // The response stream is closed by the container
+        }
+    }
+}
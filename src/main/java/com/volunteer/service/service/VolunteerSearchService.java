@@ -0,0 +1,125 @@
+package com.volunteer.service.service;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.volunteer.service.dto.NearbyVolunteerDTO;
+import com.volunteer.service.dto.VolunteerNearbyResultDTO;
+import com.volunteer.service.dto.VolunteerResponseDTO;
+import com.volunteer.service.dto.VolunteerSearchResultDTO;
+import com.volunteer.service.search.IndexedVolunteer;
+import com.volunteer.service.search.VolunteerSearchIndex;
+import com.volunteer.service.search.VolunteerSearchIndex.NearbyQuery;
+import com.volunteer.service.search.VolunteerSearchIndex.NearbyResult;
+import com.volunteer.service.search.VolunteerSearchIndex.SearchQuery;
+import com.volunteer.service.search.VolunteerSearchIndex.SearchResult;
+
+/**
+ * Service for searching volunteers by skills, interests and location.
+ * Matching runs against the in-memory index; only the returned page is read from cache or database.
+ */
+@Service
+public class VolunteerSearchService {
+
+    private final VolunteerSearchIndex searchIndex;
+    private final VolunteerService volunteerService;
+
+    @Value("${volunteer.search.max-page-size:100}")
+    private int maxPageSize;
+
+    @Value("${volunteer.search.max-radius-km:200}")
+    private double maxRadiusKm;
+
+    @Autowired
+    public VolunteerSearchService(VolunteerSearchIndex searchIndex, VolunteerService volunteerService) {
+        this.searchIndex = searchIndex;
+        this.volunteerService = volunteerService;
+    }
+
+    /**
+     * Find volunteers having all (or any) of the given skills and interests.
+     * Results are ordered by volunteer id.
+     */
+    public VolunteerSearchResultDTO search(List<String> skills, List<String> interests, Boolean active,
+                                           String match, int page, int size) {
+        validatePage(page, size);
+        boolean matchAll;
+        if ("all".equalsIgnoreCase(match)) {
+            matchAll = true;
+        } else if ("any".equalsIgnoreCase(match)) {
+            matchAll = false;
+        } else {
+            throw new IllegalArgumentException("match must be 'all' or 'any'");
+        }
+
+        Set<String> skillTokens = IndexedVolunteer.tokens(skills);
+        Set<String> interestTokens = IndexedVolunteer.tokens(interests);
+        SearchResult result = searchIndex.search(
+                new SearchQuery(skillTokens, interestTokens, active, matchAll, page, size));
+
+        List<Long> ids = new ArrayList<>(result.ids().length);
+        for (int id : result.ids()) {
+            ids.add((long) id);
+        }
+        List<VolunteerResponseDTO> volunteers = volunteerService.getVolunteers(ids);
+        return new VolunteerSearchResultDTO(result.total(), page, size, volunteers);
+    }
+
+    /**
+     * Find volunteers within {@code radiusKm} of a point, nearest first.
+     * Only volunteers on the returned page are read from cache or database.
+     */
+    public VolunteerNearbyResultDTO nearby(double latitude, double longitude, double radiusKm, Boolean active,
+                                           String day, Boolean weekends, int page, int size) {
+        validatePage(page, size);
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("lat must be between -90 and 90 and lon between -180 and 180");
+        }
+        if (!(radiusKm > 0) || radiusKm > maxRadiusKm) {
+            throw new IllegalArgumentException("radiusKm must be greater than 0 and at most " + maxRadiusKm);
+        }
+        DayOfWeek dayOfWeek = null;
+        if (day != null) {
+            dayOfWeek = IndexedVolunteer.day(day);
+            if (dayOfWeek == null) {
+                throw new IllegalArgumentException("Invalid day: " + day);
+            }
+        }
+
+        NearbyResult result = searchIndex.nearby(
+                new NearbyQuery(latitude, longitude, radiusKm, active, dayOfWeek, weekends, page, size));
+
+        List<Long> ids = new ArrayList<>(result.ids().length);
+        for (int id : result.ids()) {
+            ids.add((long) id);
+        }
+        Map<Long, VolunteerResponseDTO> volunteers = new HashMap<>();
+        volunteerService.getVolunteers(ids).forEach(volunteer -> volunteers.put(volunteer.getId(), volunteer));
+
+        List<NearbyVolunteerDTO> nearby = new ArrayList<>(ids.size());
+        for (int i = 0; i < result.ids().length; i++) {
+            VolunteerResponseDTO volunteer = volunteers.get(ids.get(i));
+            if (volunteer != null) {
+                nearby.add(new NearbyVolunteerDTO(result.distancesKm()[i], volunteer));
+            }
+        }
+        return new VolunteerNearbyResultDTO(result.total(), page, size, nearby);
+    }
+
+    private void validatePage(int page, int size) {
+        if (page < 0) {
+            throw new IllegalArgumentException("page must not be negative");
+        }
+        if (size < 1 || size > maxPageSize) {
+            throw new IllegalArgumentException("size must be between 1 and " + maxPageSize);
+        }
+    }
+}
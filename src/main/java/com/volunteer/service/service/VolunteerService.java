@@ -2,199 +2,627 @@ package com.volunteer.service.service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.volunteer.service.cache.VolunteerCacheInvalidator;
+import com.volunteer.service.cache.VolunteerCacheKeys;
+import com.volunteer.service.datasource.ReadYourWrites;
+import com.volunteer.service.dto.VolunteerDrivePageDTO;
 import com.volunteer.service.dto.VolunteerResponseDTO;
-import com.volunteer.service.dto.VolunteerResponseDTO.AvailabilityDTO;
 import com.volunteer.service.dto.VolunteerUpdateDTO;
+import com.volunteer.service.event.VolunteerEventOutbox;
+import com.volunteer.service.event.VolunteerEventType;
+import com.volunteer.service.exception.PreconditionFailedException;
 import com.volunteer.service.exception.ResourceNotFoundException;
+import com.volunteer.service.exception.UpdateConflictException;
+import com.volunteer.service.mapper.JsonMergePatch;
+import com.volunteer.service.mapper.VolunteerMapper;
+import com.volunteer.service.model.DriveStatus;
 import com.volunteer.service.model.Volunteer;
+import com.volunteer.service.model.VolunteerDrive;
+import com.volunteer.service.repository.VolunteerDriveRepository;
 import com.volunteer.service.repository.VolunteerRepository;
+import com.volunteer.service.search.VolunteerIndexSync;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 
 /**
  * Service class for managing volunteer operations.
- * Provides business logic for the 4 essential volunteer APIs.
+ * Provides business logic for the essential volunteer APIs.
  */
 @Service
 @Transactional
 public class VolunteerService {
 
+    private static final int MAX_DRIVE_ID_LENGTH = 100;
+
+    private static final Set<String> UPDATABLE_FIELDS = Set.of("name", "phoneNumber", "location", "latitude",
+            "longitude", "skills", "interests", "availability", "isActive");
+
     private final VolunteerRepository volunteerRepository;
+    private final VolunteerDriveRepository volunteerDriveRepository;
+    private final LegacyCollectionBackfill legacyBackfill;
+    private final VolunteerCacheInvalidator cacheInvalidator;
+    private final CacheManager cacheManager;
+    private final VolunteerIndexSync indexSync;
+    private final VolunteerMapper volunteerMapper;
+    private final VolunteerEventOutbox eventOutbox;
+    private final TransactionTemplate transactionTemplate;
+    private final ReadYourWrites readYourWrites;
     private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final Timer mappingTimer;
+
+    @Value("${volunteer.drives.max-page-size:500}")
+    private int maxDrivePageSize;
+
+    @Value("${volunteer.update.max-attempts:3}")
+    private int maxUpdateAttempts;
 
     @Autowired
-    public VolunteerService(VolunteerRepository volunteerRepository) {
+    public VolunteerService(VolunteerRepository volunteerRepository,
+                            VolunteerDriveRepository volunteerDriveRepository,
+                            LegacyCollectionBackfill legacyBackfill,
+                            VolunteerCacheInvalidator cacheInvalidator,
+                            CacheManager cacheManager,
+                            VolunteerIndexSync indexSync,
+                            VolunteerMapper volunteerMapper,
+                            VolunteerEventOutbox eventOutbox,
+                            PlatformTransactionManager transactionManager,
+                            ReadYourWrites readYourWrites,
+                            ObjectMapper objectMapper,
+                            Validator validator,
+                            MeterRegistry meterRegistry) {
         this.volunteerRepository = volunteerRepository;
-        this.objectMapper = new ObjectMapper();
+        this.volunteerDriveRepository = volunteerDriveRepository;
+        this.legacyBackfill = legacyBackfill;
+        this.cacheInvalidator = cacheInvalidator;
+        this.cacheManager = cacheManager;
+        this.indexSync = indexSync;
+        this.volunteerMapper = volunteerMapper;
+        this.eventOutbox = eventOutbox;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readYourWrites = readYourWrites;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.mappingTimer = Timer.builder("volunteer.phase")
+                .description("Time spent in one phase of a volunteer request")
+                .tag("phase", "mapping")
+                .register(meterRegistry);
     }
 
     /**
-     * Update volunteer information including location, skills, and availability.
+     * Get a single volunteer profile.
      */
-    @CacheEvict(value = "volunteers", key = "#id")
-    public VolunteerResponseDTO updateVolunteer(Long id, VolunteerUpdateDTO updateDTO) {
+    @Cacheable(value = "volunteers", key = "#id", sync = true)
+    @Transactional(readOnly = true)
+    public VolunteerResponseDTO getVolunteer(Long id) {
+        readYourWrites.route(id);
+        legacyBackfill.ensureMigrated(id);
         Volunteer volunteer = volunteerRepository.findById(id)
                 .orElseThrow(() -> ResourceNotFoundException.volunteer(id));
 
-        updateVolunteerFields(volunteer, updateDTO);
-        volunteer.setUpdatedAt(LocalDateTime.now());
-        
-        Volunteer savedVolunteer = volunteerRepository.save(volunteer);
-        return convertToResponseDTO(savedVolunteer);
+        return convertToResponseDTO(volunteer);
     }
 
     /**
-     * Delete volunteer and all associated data from database.
+     * Get several volunteer profiles in the given order.
+     * Cached profiles are reused; the rest are loaded with one query and cached.
+     * Ids that no longer exist are skipped.
      */
-    @CacheEvict(value = "volunteers", key = "#id")
-    public void deleteVolunteer(Long id) {
-        Volunteer volunteer = volunteerRepository.findById(id)
-                .orElseThrow(() -> ResourceNotFoundException.volunteer(id));
-        
-        volunteerRepository.delete(volunteer); // Hard delete
+    @Transactional(readOnly = true)
+    public List<VolunteerResponseDTO> getVolunteers(List<Long> ids) {
+        Cache cache = cacheManager.getCache(VolunteerCacheKeys.VOLUNTEERS);
+        Map<Long, VolunteerResponseDTO> found = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long id : ids) {
+            VolunteerResponseDTO cached = cache.get(id, VolunteerResponseDTO.class);
+            if (cached != null) {
+                found.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            readYourWrites.route(missing);
+            for (VolunteerResponseDTO dto : convertToResponseDTOs(volunteerRepository.findAllById(missing))) {
+                cache.put(dto.getId(), dto);
+                found.put(dto.getId(), dto);
+            }
+        }
+
+        List<VolunteerResponseDTO> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            VolunteerResponseDTO dto = found.get(id);
+            if (dto != null) {
+                result.add(dto);
+            }
+        }
+        return result;
     }
 
     /**
-     * Get list of drives/postings the volunteer has completed.
+     * Load the profiles and drive lists of several volunteers into the caches with one
+     * query each. Entries that are already cached are kept. Returns the volunteers found.
      */
-    @Cacheable(value = "drives", key = "'completed:' + #id")
     @Transactional(readOnly = true)
-    public List<String> getDrivesCompleted(Long id) {
-        Volunteer volunteer = volunteerRepository.findById(id)
-                .orElseThrow(() -> ResourceNotFoundException.volunteer(id));
-        
-        return parseJsonToStringList(volunteer.getDrivesCompleted());
+    public int warmCaches(List<Long> ids) {
+        Cache volunteers = cacheManager.getCache(VolunteerCacheKeys.VOLUNTEERS);
+        Cache drives = cacheManager.getCache(VolunteerCacheKeys.DRIVES);
+        readYourWrites.route(ids);
+        List<VolunteerResponseDTO> dtos = convertToResponseDTOs(volunteerRepository.findAllById(ids));
+        for (VolunteerResponseDTO dto : dtos) {
+            volunteers.putIfAbsent(dto.getId(), dto);
+            drives.putIfAbsent("completed:" + dto.getId(), dto.getDrivesCompleted());
+            drives.putIfAbsent("scheduled:" + dto.getId(), dto.getDrivesApplied());
+        }
+        return dtos.size();
     }
 
     /**
-     * Get list of drives/postings the volunteer has applied for (scheduled).
+     * Get the current ETag of a volunteer profile without loading or parsing the profile.
      */
-    @Cacheable(value = "drives", key = "'scheduled:' + #id")
+    @Cacheable(value = "volunteer-etags", key = "#id", sync = true)
     @Transactional(readOnly = true)
-    public List<String> getDrivesScheduled(Long id) {
-        Volunteer volunteer = volunteerRepository.findById(id)
+    public String getVolunteerETag(Long id) {
+        readYourWrites.route(id);
+        return loadETag(id);
+    }
+
+    private String loadETag(Long id) {
+        Long version = volunteerRepository.findVersionById(id)
                 .orElseThrow(() -> ResourceNotFoundException.volunteer(id));
-        
-        return parseJsonToStringList(volunteer.getDrivesApplied());
+
+        return computeETag(id, version);
+    }
+
+    /**
+     * Strong ETag for a profile response, derived from the entity version.
+     */
+    public static String etagFor(VolunteerResponseDTO volunteer) {
+        return computeETag(volunteer.getId(), volunteer.getVersion());
     }
 
     /**
-     * Update volunteer fields from DTO.
+     * Versions named by an If-Match header for the given volunteer, or null when any version
+     * matches ({@code *}). Weak and foreign ETags are left out, so they never match.
      */
-    private void updateVolunteerFields(Volunteer volunteer, VolunteerUpdateDTO updateDTO) {
-        if (updateDTO.getName() != null) {
-            volunteer.setName(updateDTO.getName());
+    public static Set<Long> versionsFromIfMatch(Long id, String ifMatch) {
+        if (ifMatch.trim().equals("*")) {
+            return null;
         }
-        if (updateDTO.getPhoneNumber() != null) {
-            volunteer.setPhoneNumber(updateDTO.getPhoneNumber());
+        String prefix = "\"" + id + "-";
+        Set<Long> versions = new HashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+                try {
+                    versions.add(Long.parseLong(tag.substring(prefix.length(), tag.length() - 1), 16));
+                } catch (NumberFormatException e) {
+                    // Not one of our ETags
+                }
+            }
         }
-        if (updateDTO.getLocation() != null) {
-            volunteer.setLocation(updateDTO.getLocation());
+        return versions;
+    }
+
+    /**
+     * Update volunteer information including location, skills, and availability.
+     * Fields that are null in the update keep their stored values.
+     *
+     * @param expectedVersions versions from If-Match, or null for an unconditional update
+     * @param returnProfile    false to skip building the response profile
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public VolunteerUpdateResult updateVolunteer(Long id, VolunteerUpdateDTO updateDTO, Set<Long> expectedVersions,
+                                                 boolean returnProfile) {
+        ObjectNode changes = objectMapper.valueToTree(updateDTO); // Null fields are left out
+        return update(id, changes, false, expectedVersions, returnProfile, new AtomicReference<>());
+    }
+
+    /**
+     * Update a volunteer whose fields were already read by a failed batch, so that a writer
+     * that changed the same fields since then is reported (409) rather than overwritten.
+     * Used by {@link VolunteerBatchService} when retrying item by item.
+     *
+     * @param readValues values returned by {@link #applyIfChanged} in the batch, or null to read afresh
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    VolunteerUpdateResult updateVolunteer(Long id, VolunteerUpdateDTO updateDTO, ObjectNode readValues) {
+        return update(id, updateChanges(updateDTO), false, null, false, new AtomicReference<>(readValues));
+    }
+
+    /**
+     * Apply an unconditional update to a managed volunteer, if it changes any stored value.
+     * Returns the stored values of the written fields as read, or null for a no-op.
+     * Shared with {@link VolunteerBatchService}; the caller flushes and records the change.
+     */
+    ObjectNode applyIfChanged(Volunteer volunteer, VolunteerUpdateDTO updateDTO, LocalDateTime updatedAt) {
+        Change change = change(volunteer, updateChanges(updateDTO), false);
+        if (!change.changed()) {
+            return null;
         }
-        if (updateDTO.getLatitude() != null) {
-            volunteer.setLatitude(updateDTO.getLatitude());
+        applyUpdate(volunteer, change.values(), updatedAt);
+        return change.before();
+    }
+
+    /**
+     * Fields of a PUT-style update; null fields and the batch item id are left out.
+     */
+    private ObjectNode updateChanges(VolunteerUpdateDTO updateDTO) {
+        ObjectNode changes = objectMapper.valueToTree(updateDTO);
+        changes.retain(UPDATABLE_FIELDS);
+        return changes;
+    }
+
+    /**
+     * Apply a JSON Merge Patch (RFC 7386) to the updatable fields of a volunteer.
+     * {@code null} clears a field; availability is merged member by member.
+     *
+     * @param expectedVersions versions from If-Match, or null for an unconditional patch
+     * @param returnProfile    false to skip building the response profile
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public VolunteerUpdateResult patchVolunteer(Long id, JsonNode patch, Set<Long> expectedVersions,
+                                                boolean returnProfile) {
+        if (patch == null || !patch.isObject()) {
+            throw new IllegalArgumentException("Merge patch must be a JSON object");
         }
-        if (updateDTO.getLongitude() != null) {
-            volunteer.setLongitude(updateDTO.getLongitude());
+        patch.fieldNames().forEachRemaining(field -> {
+            if (!UPDATABLE_FIELDS.contains(field)) {
+                throw new IllegalArgumentException("Field cannot be updated: " + field);
+            }
+        });
+        return update(id, (ObjectNode) patch, true, expectedVersions, returnProfile, new AtomicReference<>());
+    }
+
+    /**
+     * Write the given fields, checked against the version that was read.
+     * If another writer commits in between, the change is re-applied to the new state,
+     * up to {@code volunteer.update.max-attempts} times, unless that writer changed one of the
+     * same fields (409). With If-Match the change only applies to the named versions (412).
+     */
+    private VolunteerUpdateResult update(Long id, ObjectNode changes, boolean mergePatch, Set<Long> expectedVersions,
+                                         boolean returnProfile, AtomicReference<ObjectNode> readValues) {
+        legacyBackfill.ensureMigrated(id);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status ->
+                        updateOnce(id, changes, mergePatch, expectedVersions, returnProfile, readValues));
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxUpdateAttempts) {
+                    throw new UpdateConflictException("Volunteer " + id + " is being updated concurrently, retry the request");
+                }
+            }
         }
-        if (updateDTO.getSkills() != null) {
-            volunteer.setSkills(convertListToJson(updateDTO.getSkills()));
+    }
+
+    private VolunteerUpdateResult updateOnce(Long id, ObjectNode changes, boolean mergePatch, Set<Long> expectedVersions,
+                                             boolean returnProfile, AtomicReference<ObjectNode> readValues) {
+        Volunteer volunteer = volunteerRepository.findById(id)
+                .orElseThrow(() -> ResourceNotFoundException.volunteer(id));
+        if (expectedVersions != null && !expectedVersions.contains(volunteer.getVersion())) {
+            throw new PreconditionFailedException("Volunteer " + id + " has been modified, reload it and retry");
         }
-        if (updateDTO.getInterests() != null) {
-            volunteer.setInterests(convertListToJson(updateDTO.getInterests()));
+
+        Change change = change(volunteer, changes, mergePatch);
+
+        // On a retry, the concurrent writer must have left the fields of this request untouched
+        ObjectNode firstRead = readValues.compareAndExchange(null, change.before());
+        if (firstRead != null && !firstRead.equals(change.before())) {
+            List<String> changed = new ArrayList<>();
+            for (String field : change.fields()) {
+                if (!Objects.equals(firstRead.get(field), change.before().get(field))) {
+                    changed.add(field);
+                }
+            }
+            throw new UpdateConflictException("Concurrent update of volunteer " + id + " changed " + changed);
         }
-        if (updateDTO.getAvailability() != null) {
-            volunteer.setAvailability(convertAvailabilityToJson(updateDTO.getAvailability()));
+
+        if (!change.changed()) {
+            // Nothing to write: no UPDATE, no event and no cache eviction
+            return new VolunteerUpdateResult(computeETag(id, volunteer.getVersion()),
+                    returnProfile ? convertToResponseDTO(volunteer) : null, false);
         }
-        if (updateDTO.getIsActive() != null) {
-            volunteer.setIsActive(updateDTO.getIsActive());
+
+        applyUpdate(volunteer, change.values(), LocalDateTime.now());
+        for (String field : change.fields()) {
+            if (!change.requested().has(field)) {
+                clearField(volunteer, field);
+            }
         }
+
+        // Flush before recording the event so the version check and row lock order events of the same volunteer
+        Volunteer savedVolunteer = volunteerRepository.saveAndFlush(volunteer);
+        eventOutbox.record(VolunteerEventType.VOLUNTEER_UPDATED, id);
+        cacheInvalidator.invalidate(id);
+        indexSync.indexAfterCommit(savedVolunteer);
+        return new VolunteerUpdateResult(computeETag(id, savedVolunteer.getVersion()),
+                returnProfile ? convertToResponseDTO(savedVolunteer) : null, true);
     }
 
     /**
-     * Convert Volunteer entity to VolunteerResponseDTO.
+     * Stored and requested values of just the fields a request writes.
      */
-    private VolunteerResponseDTO convertToResponseDTO(Volunteer volunteer) {
-        VolunteerResponseDTO dto = new VolunteerResponseDTO();
-        dto.setId(volunteer.getId());
-        dto.setName(volunteer.getName());
-        dto.setEmail(volunteer.getEmail());
-        dto.setPhoneNumber(volunteer.getPhoneNumber());
-        dto.setLocation(volunteer.getLocation());
-        dto.setLatitude(volunteer.getLatitude());
-        dto.setLongitude(volunteer.getLongitude());
-        dto.setSkills(parseJsonToStringList(volunteer.getSkills()));
-        dto.setInterests(parseJsonToStringList(volunteer.getInterests()));
-        dto.setAvailability(parseJsonToAvailability(volunteer.getAvailability()));
-        dto.setDrivesApplied(parseJsonToStringList(volunteer.getDrivesApplied()));
-        dto.setDrivesCompleted(parseJsonToStringList(volunteer.getDrivesCompleted()));
-        dto.setIsActive(volunteer.getIsActive());
-        dto.setCreatedAt(volunteer.getCreatedAt());
-        dto.setUpdatedAt(volunteer.getUpdatedAt());
-        return dto;
+    private Change change(Volunteer volunteer, ObjectNode changes, boolean mergePatch) {
+        Set<String> fields = new HashSet<>();
+        changes.fieldNames().forEachRemaining(fields::add);
+        ObjectNode stored = ((ObjectNode) objectMapper.valueToTree(volunteerMapper.toUpdateDTO(volunteer))).retain(fields);
+        ObjectNode requested = mergePatch
+                ? (ObjectNode) JsonMergePatch.apply(stored, changes)
+                : (ObjectNode) stored.deepCopy().setAll(changes);
+        VolunteerUpdateDTO values = readUpdate(requested);
+        return new Change(fields, requested, values, canonical(readUpdate(stored)), canonical(values));
     }
 
     /**
-     * Parse JSON string to List<String>.
+     * A requested change: the fields written, the requested values as sent and as bound,
+     * and the canonical stored ({@code before}) and requested ({@code after}) values.
      */
-    private List<String> parseJsonToStringList(String json) {
-        if (json == null || json.trim().isEmpty()) {
-            return new ArrayList<>();
+    private record Change(Set<String> fields, ObjectNode requested, VolunteerUpdateDTO values,
+                          ObjectNode before, ObjectNode after) {
+
+        boolean changed() {
+            return !after.equals(before);
         }
+    }
+
+    /**
+     * Bind and validate requested field values.
+     */
+    private VolunteerUpdateDTO readUpdate(ObjectNode values) {
+        VolunteerUpdateDTO updateDTO;
         try {
-            return objectMapper.readValue(json, new TypeReference<List<String>>() {});
-        } catch (Exception e) {
-            return new ArrayList<>();
+            updateDTO = objectMapper.treeToValue(values, VolunteerUpdateDTO.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid update: " + e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<VolunteerUpdateDTO>> violations = validator.validate(updateDTO);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
         }
+        return updateDTO;
     }
 
     /**
-     * Convert List<String> to JSON string.
+     * Comparable form of field values: typed by the DTO, skills and interests as sorted sets.
      */
-    private String convertListToJson(List<String> list) {
-        if (list == null) {
-            return null;
+    private ObjectNode canonical(VolunteerUpdateDTO values) {
+        ObjectNode node = objectMapper.valueToTree(values);
+        for (String field : List.of("skills", "interests")) {
+            JsonNode array = node.get(field);
+            if (array != null) {
+                Set<String> normalized = new TreeSet<>();
+                array.forEach(value -> {
+                    if (!value.isNull() && !value.asText().isBlank()) {
+                        normalized.add(value.asText().trim());
+                    }
+                });
+                ArrayNode sorted = node.putArray(field);
+                normalized.forEach(sorted::add);
+            }
         }
-        try {
-            return objectMapper.writeValueAsString(list);
-        } catch (Exception e) {
-            return null;
+        return node;
+    }
+
+    /**
+     * Clear a field removed by a merge patch.
+     */
+    private static void clearField(Volunteer volunteer, String field) {
+        switch (field) {
+            case "phoneNumber" -> volunteer.setPhoneNumber(null);
+            case "location" -> volunteer.setLocation(null);
+            case "latitude" -> volunteer.setLatitude(null);
+            case "longitude" -> volunteer.setLongitude(null);
+            case "availability" -> volunteer.setAvailability(null);
+            case "skills" -> volunteer.getSkills().clear();
+            case "interests" -> volunteer.getInterests().clear();
+            default -> throw new IllegalArgumentException("Field cannot be removed: " + field);
         }
     }
 
     /**
-     * Parse JSON string to AvailabilityDTO.
+     * Apply an update to a managed volunteer.
      */
-    private AvailabilityDTO parseJsonToAvailability(String json) {
-        if (json == null || json.trim().isEmpty()) {
-            return null;
+    private void applyUpdate(Volunteer volunteer, VolunteerUpdateDTO updateDTO, LocalDateTime updatedAt) {
+        volunteerMapper.updateVolunteer(updateDTO, volunteer);
+        volunteer.setUpdatedAt(updatedAt);
+    }
+
+    /**
+     * Delete volunteer and all associated data from database.
+     */
+    public void deleteVolunteer(Long id) {
+        Volunteer volunteer = volunteerRepository.findById(id)
+                .orElseThrow(() -> ResourceNotFoundException.volunteer(id));
+        
+        volunteerDriveRepository.deleteByVolunteerId(id);
+        volunteerRepository.delete(volunteer); // Hard delete
+        volunteerRepository.flush();
+        eventOutbox.record(VolunteerEventType.VOLUNTEER_DELETED, id);
+        cacheInvalidator.invalidate(id);
+        indexSync.removeAfterCommit(id);
+    }
+
+    /**
+     * Record that a volunteer applied for or completed a drive.
+     * Appends to the drive history without loading the volunteer; repeating a call is a no-op.
+     * Returns true if the drive was added.
+     */
+    public boolean addDrive(Long id, String driveId, DriveStatus status) {
+        if (driveId == null || driveId.isBlank() || driveId.length() > MAX_DRIVE_ID_LENGTH) {
+            throw new IllegalArgumentException("Drive id must be 1 to " + MAX_DRIVE_ID_LENGTH + " characters");
         }
-        try {
-            return objectMapper.readValue(json, AvailabilityDTO.class);
-        } catch (Exception e) {
-            return null;
+        legacyBackfill.ensureMigrated(id);
+        // Serializes concurrent drive changes of this volunteer until commit
+        if (volunteerRepository.lockById(id).isEmpty()) {
+            throw ResourceNotFoundException.volunteer(id);
+        }
+        if (volunteerDriveRepository.insertIfAbsent(id, driveId, status.name()) == 0) {
+            return false;
         }
+        volunteerRepository.touch(id, LocalDateTime.now());
+        eventOutbox.record(VolunteerEventType.VOLUNTEER_UPDATED, id);
+        cacheInvalidator.invalidate(VolunteerCacheKeys.driveKeys(id, status));
+        return true;
     }
 
     /**
-     * Convert AvailabilityUpdateDTO to JSON string.
+     * Get list of drives/postings the volunteer has completed.
      */
-    private String convertAvailabilityToJson(VolunteerUpdateDTO.AvailabilityUpdateDTO availability) {
-        if (availability == null) {
-            return null;
+    @Cacheable(value = "drives", key = "'completed:' + #id", sync = true)
+    @Transactional(readOnly = true)
+    public List<String> getDrivesCompleted(Long id) {
+        return findDriveIds(id, DriveStatus.COMPLETED);
+    }
+
+    /**
+     * Get list of drives/postings the volunteer has applied for (scheduled).
+     */
+    @Cacheable(value = "drives", key = "'scheduled:' + #id", sync = true)
+    @Transactional(readOnly = true)
+    public List<String> getDrivesScheduled(Long id) {
+        return findDriveIds(id, DriveStatus.APPLIED);
+    }
+
+    /**
+     * Get one page of a drive list, starting after the cursor of the previous page.
+     * Pages are cached under the profile ETag, which changes with every drive recorded,
+     * so a page is never served after the history changed; superseded pages expire.
+     */
+    @Transactional(readOnly = true)
+    public VolunteerDrivePageDTO getDrivePage(Long id, DriveStatus status, String after, int limit) {
+        if (limit < 1 || limit > maxDrivePageSize) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxDrivePageSize);
         }
+        long afterId = DriveCursor.decode(after, status);
+        readYourWrites.route(id);
+        String etag = getCached(VolunteerCacheKeys.VOLUNTEER_ETAGS, id, () -> loadETag(id));
+        String key = VolunteerCacheKeys.drivePageKey(id, status, afterId, limit, etag);
+        return getCached(VolunteerCacheKeys.DRIVES, key, () -> loadDrivePage(id, status, afterId, limit));
+    }
+
+    /**
+     * Cache.get with the loader's own exception rethrown, so a missing volunteer
+     * still reaches the exception handler as a 404.
+     */
+    private <T> T getCached(String cacheName, Object key, Callable<T> loader) {
         try {
-            return objectMapper.writeValueAsString(availability);
-        } catch (Exception e) {
-            return null;
+            return cacheManager.getCache(cacheName).get(key, loader);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e;
+        }
+    }
+
+    private VolunteerDrivePageDTO loadDrivePage(Long id, DriveStatus status, long afterId, int limit) {
+        legacyBackfill.ensureMigrated(id);
+        // One extra row tells whether another page follows
+        List<VolunteerDrive> rows = volunteerDriveRepository.findPage(id, status, afterId, PageRequest.of(0, limit + 1));
+        boolean hasMore = rows.size() > limit;
+        List<String> drives = new ArrayList<>(Math.min(rows.size(), limit));
+        for (int i = 0; i < rows.size() && i < limit; i++) {
+            drives.add(rows.get(i).getDriveId());
+        }
+        String nextCursor = hasMore ? DriveCursor.encode(status, rows.get(limit - 1).getId()) : null;
+        return new VolunteerDrivePageDTO(drives, nextCursor);
+    }
+
+    /**
+     * Drive ids of one status, read from the drive history without loading the volunteer.
+     */
+    private List<String> findDriveIds(Long id, DriveStatus status) {
+        readYourWrites.route(id);
+        if (!volunteerRepository.existsById(id)) {
+            throw ResourceNotFoundException.volunteer(id);
         }
+        legacyBackfill.ensureMigrated(id);
+        return volunteerDriveRepository.findDriveIds(id, status);
+    }
+
+    /**
+     * Build the ETag value from the entity version.
+     */
+    private static String computeETag(Long id, Long version) {
+        return "\"" + id + "-" + Long.toHexString(version == null ? 0L : version) + "\"";
+    }
+
+    /**
+     * Convert Volunteer entity to VolunteerResponseDTO.
+     */
+    private VolunteerResponseDTO convertToResponseDTO(Volunteer volunteer) {
+        return convertToResponseDTO(volunteer, volunteerDriveRepository.findByVolunteerIdOrderById(volunteer.getId()));
+    }
+
+    /**
+     * Convert several volunteers, loading their drive history with a single query.
+     */
+    private List<VolunteerResponseDTO> convertToResponseDTOs(List<Volunteer> volunteers) {
+        List<Long> ids = new ArrayList<>(volunteers.size());
+        volunteers.forEach(volunteer -> ids.add(volunteer.getId()));
+        Map<Long, List<VolunteerDrive>> drivesByVolunteer = new HashMap<>();
+        for (VolunteerDrive drive : volunteerDriveRepository.findByVolunteerIdInOrderById(ids)) {
+            drivesByVolunteer.computeIfAbsent(drive.getVolunteerId(), k -> new ArrayList<>()).add(drive);
+        }
+
+        List<VolunteerResponseDTO> dtos = new ArrayList<>(volunteers.size());
+        for (Volunteer volunteer : volunteers) {
+            dtos.add(convertToResponseDTO(volunteer, drivesByVolunteer.getOrDefault(volunteer.getId(), List.of())));
+        }
+        return dtos;
+    }
+
+    /**
+     * Convert a volunteer with its already loaded drive history.
+     * Recorded as the {@code mapping} phase of {@code volunteer.phase}; lazily loaded skills and
+     * interests are included, the drive query is not.
+     */
+    private VolunteerResponseDTO convertToResponseDTO(Volunteer volunteer, List<VolunteerDrive> drives) {
+        long started = System.nanoTime();
+        List<String> drivesApplied = new ArrayList<>();
+        List<String> drivesCompleted = new ArrayList<>();
+        for (VolunteerDrive drive : drives) {
+            (drive.getStatus() == DriveStatus.COMPLETED ? drivesCompleted : drivesApplied).add(drive.getDriveId());
+        }
+        VolunteerResponseDTO dto = volunteerMapper.toResponseDTO(volunteer, drivesApplied, drivesCompleted);
+        mappingTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return dto;
     }
-}
\ No newline at end of file
+}
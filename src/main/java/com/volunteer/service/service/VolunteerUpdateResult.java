@@ -0,0 +1,13 @@
+package com.volunteer.service.service;
+
+import com.volunteer.service.dto.VolunteerResponseDTO;
+
+/**
+ * Outcome of a profile update or patch.
+ *
+ * @param etag      ETag of the profile after the update
+ * @param volunteer the updated profile, or null when the caller asked for a minimal result
+ * @param changed   false when the request matched the stored values and nothing was written
+ */
+public record VolunteerUpdateResult(String etag, VolunteerResponseDTO volunteer, boolean changed) {
+}
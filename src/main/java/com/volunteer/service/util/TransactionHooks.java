@@ -0,0 +1,32 @@
+package com.volunteer.service.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Helpers for running side effects relative to the current transaction.
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+        // Utility class
+    }
+
+    /**
+     * Run the action once the current transaction commits, or immediately if there is none.
+     * Side effects such as cache eviction must not run before commit, otherwise a concurrent
+     * reader can repopulate the cache with the pre-commit state.
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -24,31 +24,3 @@ CREATE TABLE IF NOT EXISTS volunteers (
 CREATE INDEX IF NOT EXISTS idx_volunteer_email ON volunteers(email);
 CREATE INDEX IF NOT EXISTS idx_volunteer_location ON volunteers(latitude, longitude);
 CREATE INDEX IF NOT EXISTS idx_volunteer_active ON volunteers(is_active);
-    start_time TIME,
-    end_time TIME,
-    start_date TIMESTAMP,
-    end_date TIMESTAMP,
-    is_recurring BOOLEAN NOT NULL DEFAULT false,
-    is_active BOOLEAN NOT NULL DEFAULT true,
-    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    FOREIGN KEY (volunteer_id) REFERENCES volunteers(id) ON DELETE CASCADE
-);
-
--- Create indexes for better query performance
-CREATE INDEX IF NOT EXISTS idx_volunteer_email ON volunteers(email);
-CREATE INDEX IF NOT EXISTS idx_volunteer_location ON volunteers(latitude, longitude);
-CREATE INDEX IF NOT EXISTS idx_volunteer_active ON volunteers(is_active);
-
-CREATE INDEX IF NOT EXISTS idx_skill_name ON skills(name);
-CREATE INDEX IF NOT EXISTS idx_skill_category ON skills(category);
-CREATE INDEX IF NOT EXISTS idx_skill_active ON skills(is_active);
-
-CREATE INDEX IF NOT EXISTS idx_volunteer_skill_volunteer ON volunteer_skills(volunteer_id);
-CREATE INDEX IF NOT EXISTS idx_volunteer_skill_skill ON volunteer_skills(skill_id);
-CREATE INDEX IF NOT EXISTS idx_volunteer_skill_proficiency ON volunteer_skills(proficiency_level);
-
-CREATE INDEX IF NOT EXISTS idx_availability_volunteer ON availability(volunteer_id);
-CREATE INDEX IF NOT EXISTS idx_availability_day ON availability(day_of_week);
-CREATE INDEX IF NOT EXISTS idx_availability_date_range ON availability(start_date, end_date);
-CREATE INDEX IF NOT EXISTS idx_availability_active ON availability(is_active);
\ No newline at end of file
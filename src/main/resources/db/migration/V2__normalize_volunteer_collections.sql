@@ -0,0 +1,38 @@
+-- Move JSON-in-TEXT collections into child tables so they can be indexed
+-- The legacy TEXT columns (skills, interests, drives_applied, drives_completed) are kept
+-- until the online backfill has migrated every row; a later migration drops them.
+
+-- Rows created before this migration still need their JSON copied into the child tables
+ALTER TABLE volunteers ADD COLUMN IF NOT EXISTS collections_migrated BOOLEAN NOT NULL DEFAULT false;
+
+CREATE TABLE IF NOT EXISTS volunteer_skills (
+    volunteer_id BIGINT NOT NULL REFERENCES volunteers(id) ON DELETE CASCADE,
+    skill VARCHAR(100) NOT NULL,
+    PRIMARY KEY (volunteer_id, skill)
+);
+
+CREATE TABLE IF NOT EXISTS volunteer_interests (
+    volunteer_id BIGINT NOT NULL REFERENCES volunteers(id) ON DELETE CASCADE,
+    interest VARCHAR(100) NOT NULL,
+    PRIMARY KEY (volunteer_id, interest)
+);
+
+-- Applied and completed drives share one append-only table; id gives the history order
+CREATE TABLE IF NOT EXISTS volunteer_drives (
+    id BIGSERIAL PRIMARY KEY,
+    volunteer_id BIGINT NOT NULL REFERENCES volunteers(id) ON DELETE CASCADE,
+    drive_id VARCHAR(100) NOT NULL,
+    status VARCHAR(20) NOT NULL, -- APPLIED or COMPLETED
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_volunteer_drive UNIQUE (volunteer_id, status, drive_id)
+);
+
+-- "Who has skill X" lookups
+CREATE INDEX IF NOT EXISTS idx_volunteer_skill_value ON volunteer_skills(skill, volunteer_id);
+CREATE INDEX IF NOT EXISTS idx_volunteer_interest_value ON volunteer_interests(interest, volunteer_id);
+
+-- Drive history per volunteer in insertion order
+CREATE INDEX IF NOT EXISTS idx_volunteer_drive_history ON volunteer_drives(volunteer_id, status, id);
+
+-- Lets the backfill find remaining rows without scanning the whole table
+CREATE INDEX IF NOT EXISTS idx_volunteer_unmigrated ON volunteers(id) WHERE collections_migrated = false;
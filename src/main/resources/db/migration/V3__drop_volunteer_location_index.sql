@@ -0,0 +1,3 @@
+-- Nearby queries are served by the in-memory geo grid index; a composite B-tree on
+-- (latitude, longitude) cannot answer radius queries and only slows down writes
+DROP INDEX IF EXISTS idx_volunteer_location;
@@ -0,0 +1,11 @@
+-- Let Hibernate allocate volunteer ids in blocks instead of one IDENTITY round trip per insert,
+-- which also lets inserts be sent as JDBC batches.
+-- The id column keeps its nextval() default for raw SQL inserts (bulk import). This is only safe
+-- because the application uses the pooled-lo optimizer: each nextval() value v reserves the ids
+-- v .. v + 49 for whoever fetched it, so defaults and Hibernate blocks never overlap.
+-- INCREMENT BY is the allocation size; the application adopts it at startup, so changing it
+-- only needs a new migration.
+ALTER SEQUENCE volunteers_id_seq INCREMENT BY 50;
+
+-- Existing ids are kept; make sure the next block starts above every id in use
+SELECT setval('volunteers_id_seq', GREATEST((SELECT MAX(id) FROM volunteers), 1));
@@ -0,0 +1,10 @@
+-- Transactional outbox for volunteer domain events.
+-- Rows are written in the same transaction as the change they describe and deleted once the
+-- publisher has delivered them, so the table only holds the undelivered backlog.
+-- No foreign key: deletion events must outlive the volunteer row.
+CREATE TABLE IF NOT EXISTS volunteer_events (
+    id BIGSERIAL PRIMARY KEY,
+    volunteer_id BIGINT NOT NULL,
+    event_type VARCHAR(40) NOT NULL,
+    occurred_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
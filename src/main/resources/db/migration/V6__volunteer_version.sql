@@ -0,0 +1,3 @@
+-- Optimistic locking: every profile write increments the version and checks the one it read.
+-- Existing rows start at 0; the column default keeps bulk inserts that do not name it valid.
+ALTER TABLE volunteers ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
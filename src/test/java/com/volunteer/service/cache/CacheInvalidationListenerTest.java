@@ -0,0 +1,93 @@
+package com.volunteer.service.cache;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.volunteer.service.datasource.ReadYourWrites;
+import com.volunteer.service.model.Volunteer;
+import com.volunteer.service.repository.VolunteerRepository;
+import com.volunteer.service.search.IndexedVolunteer;
+import com.volunteer.service.search.VolunteerIndexSync;
+import com.volunteer.service.search.VolunteerSearchIndex;
+import com.volunteer.service.search.VolunteerSearchIndex.NearbyQuery;
+
+class CacheInvalidationListenerTest {
+
+    private VolunteerRepository volunteerRepository;
+    private VolunteerSearchIndex searchIndex;
+    private CacheInvalidationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        volunteerRepository = mock(VolunteerRepository.class);
+        searchIndex = new VolunteerSearchIndex();
+        searchIndex.markReady();
+        // Called directly, so refresh runs on the listener thread instead of the events pool
+        VolunteerIndexSync indexSync = new VolunteerIndexSync(searchIndex, volunteerRepository,
+                new ReadYourWrites(Duration.ofSeconds(5)), mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(indexSync, "batchSize", 100);
+        listener = new CacheInvalidationListener(mock(TwoTierCacheManager.class),
+                new ReadYourWrites(Duration.ofSeconds(5)), indexSync, "node-b");
+    }
+
+    @Test
+    void locationWrittenOnAnotherNodeMovesVolunteerInNearbyGrid() {
+        searchIndex.index(IndexedVolunteer.from(volunteer(1L, 10.0, 10.0)));
+        when(volunteerRepository.findAllById(List.of(7L))).thenReturn(List.of(volunteer(2L, 48.2, 16.4)));
+
+        listener.onMessage(message("node-a", VolunteerCacheKeys.derivedKeys(7L)), null);
+
+        assertArrayEquals(new int[0], nearby(10.0, 10.0));
+        assertArrayEquals(new int[]{7}, nearby(48.2, 16.4));
+    }
+
+    @Test
+    void olderSnapshotDoesNotUndoNewerOne() {
+        searchIndex.index(IndexedVolunteer.from(volunteer(3L, 48.2, 16.4)));
+        when(volunteerRepository.findAllById(List.of(7L))).thenReturn(List.of(volunteer(2L, 10.0, 10.0)));
+
+        listener.onMessage(message("node-a", VolunteerCacheKeys.derivedKeys(7L)), null);
+
+        assertArrayEquals(new int[]{7}, nearby(48.2, 16.4));
+    }
+
+    @Test
+    void volunteerDeletedOnAnotherNodeLeavesNearbyGrid() {
+        searchIndex.index(IndexedVolunteer.from(volunteer(1L, 48.2, 16.4)));
+        when(volunteerRepository.findAllById(List.of(7L))).thenReturn(List.of());
+
+        listener.onMessage(message("node-a", VolunteerCacheKeys.derivedKeys(7L)), null);
+
+        assertArrayEquals(new int[0], nearby(48.2, 16.4));
+    }
+
+    private int[] nearby(double latitude, double longitude) {
+        return searchIndex.nearby(new NearbyQuery(latitude, longitude, 5, null, null, null, 0, 20)).ids();
+    }
+
+    private static Volunteer volunteer(Long version, double latitude, double longitude) {
+        Volunteer volunteer = new Volunteer("Volunteer 7", "volunteer7@example.org");
+        volunteer.setId(7L);
+        volunteer.setVersion(version);
+        volunteer.setIsActive(true);
+        volunteer.setLatitude(latitude);
+        volunteer.setLongitude(longitude);
+        return volunteer;
+    }
+
+    private static DefaultMessage message(String origin, List<CacheInvalidationMessage.Entry> entries) {
+        byte[] body = new CacheInvalidationMessage(origin, entries).encode().getBytes(StandardCharsets.UTF_8);
+        return new DefaultMessage(new byte[0], body);
+    }
+}
@@ -0,0 +1,82 @@
+package com.volunteer.service.controller;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.volunteer.service.cache.ResponseBodyCache;
+import com.volunteer.service.cache.VolunteerCacheInvalidator;
+import com.volunteer.service.datasource.ReadYourWrites;
+import com.volunteer.service.event.VolunteerEventOutbox;
+import com.volunteer.service.exception.GlobalExceptionHandler;
+import com.volunteer.service.mapper.VolunteerMapper;
+import com.volunteer.service.repository.VolunteerDriveRepository;
+import com.volunteer.service.repository.VolunteerRepository;
+import com.volunteer.service.search.VolunteerIndexSync;
+import com.volunteer.service.service.LegacyCollectionBackfill;
+import com.volunteer.service.service.VolunteerCacheWarmer;
+import com.volunteer.service.service.VolunteerExportService;
+import com.volunteer.service.service.VolunteerSearchService;
+import com.volunteer.service.service.VolunteerService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import jakarta.validation.Validator;
+
+class VolunteerControllerTest {
+
+    private VolunteerRepository volunteerRepository;
+    private VolunteerCacheWarmer cacheWarmer;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        volunteerRepository = mock(VolunteerRepository.class);
+        cacheWarmer = mock(VolunteerCacheWarmer.class);
+        // Like TwoTierCache, ConcurrentMapCache wraps loader exceptions in ValueRetrievalException
+        VolunteerService volunteerService = new VolunteerService(volunteerRepository,
+                mock(VolunteerDriveRepository.class), mock(LegacyCollectionBackfill.class),
+                mock(VolunteerCacheInvalidator.class), new ConcurrentMapCacheManager(),
+                mock(VolunteerIndexSync.class), mock(VolunteerMapper.class), mock(VolunteerEventOutbox.class),
+                mock(PlatformTransactionManager.class), new ReadYourWrites(Duration.ofSeconds(5)),
+                new ObjectMapper(), mock(Validator.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(volunteerService, "maxDrivePageSize", 200);
+
+        VolunteerController controller = new VolunteerController(volunteerService,
+                mock(VolunteerSearchService.class), mock(VolunteerExportService.class),
+                mock(ResponseBodyCache.class), cacheWarmer);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    void drivePageOfUnknownVolunteerIsNotFound() throws Exception {
+        when(volunteerRepository.findVersionById(anyLong())).thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/v1/volunteers/42/drives/completed").param("limit", "10"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+        mockMvc.perform(get("/api/v1/volunteers/42/drives/scheduled").param("after", ""))
+                .andExpect(status().isNotFound());
+
+        verify(cacheWarmer, never()).recordAccess(anyLong());
+    }
+}